@@ -0,0 +1,165 @@
+package com.example.resumeAnalyzer.demo.Analytics;
+
+import com.example.resumeAnalyzer.demo.dto.AnalysisResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates maintained on every analysis, so admin queries never scan stored analyses.
+ * Writers only touch LongAdders; reads cost O(distinct skills), independent of analysis count.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsRollupService {
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.analytics.snapshot-path:./analytics/rollups.json}")
+    private String snapshotPath;
+
+    // Job family for resumes analysed without a job description
+    public static final String NO_JD_FAMILY = "none";
+    public static final String ALL_FAMILIES = "all";
+
+    private final Map<String, LongAdder> skillPrevalence = new ConcurrentHashMap<>();
+    private final Map<String, FamilyRollup> families = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the last snapshot back in. A snapshot that cannot be read is moved aside and the
+     * rollups start empty: losing history must not stop the application from starting.
+     */
+    @PostConstruct
+    void restore() {
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) return;
+
+        try {
+            AnalyticsSnapshot snapshot = objectMapper.readValue(path.toFile(), AnalyticsSnapshot.class);
+            snapshot.skillPrevalence().forEach((skill, count) -> counter(skillPrevalence, skill).add(count));
+            snapshot.families().forEach((name, family) -> {
+                FamilyRollup rollup = family(name);
+                rollup.analyses.add(family.analyses());
+                family.missingSkills().forEach((skill, count) -> counter(rollup.missingSkills, skill).add(count));
+                rollup.scores.merge(family.scores());
+            });
+            System.out.println("Restored analytics rollups from " + path);
+        } catch (IOException | RuntimeException e) {
+            skillPrevalence.clear();
+            families.clear();
+            Path aside = path.resolveSibling(path.getFileName() + ".corrupt-" + System.currentTimeMillis());
+            System.out.println("Analytics snapshot " + path + " is unreadable (" + e.getMessage()
+                    + "), starting with empty rollups");
+            try {
+                Files.move(path, aside, StandardCopyOption.REPLACE_EXISTING);
+                System.out.println("Moved unreadable snapshot to " + aside);
+            } catch (IOException moveFailed) {
+                System.out.println("Could not move unreadable snapshot aside: " + moveFailed.getMessage());
+            }
+        }
+    }
+
+    public void record(String jobFamily, AnalysisResponseDto analysis) {
+        FamilyRollup family = family(jobFamily);
+        family.analyses.increment();
+        if (analysis.score != null) family.scores.record(analysis.score);
+        if (analysis.skillsMissing != null) {
+            for (String skill : analysis.skillsMissing) counter(family.missingSkills, skill).increment();
+        }
+        if (analysis.parserResult != null && analysis.parserResult.skills != null) {
+            for (String skill : new HashSet<>(analysis.parserResult.skills)) counter(skillPrevalence, skill).increment();
+        }
+    }
+
+    public Set<String> families() {
+        return new TreeSet<>(families.keySet());
+    }
+
+    public List<Map.Entry<String, Long>> topMissingSkills(String jobFamily, int limit) {
+        if (ALL_FAMILIES.equals(jobFamily)) {
+            Map<String, Long> merged = new HashMap<>();
+            families.values().forEach(family ->
+                    family.missingSkills.forEach((skill, count) -> merged.merge(skill, count.sum(), Long::sum)));
+            return top(merged, limit);
+        }
+        FamilyRollup family = families.get(jobFamily);
+        return family == null ? List.of() : top(sums(family.missingSkills), limit);
+    }
+
+    public List<Map.Entry<String, Long>> skillPrevalence(int limit) {
+        return top(sums(skillPrevalence), limit);
+    }
+
+    public Map<String, Object> scoreSummary(String jobFamily) {
+        long[] buckets = new long[ScoreHistogram.BUCKETS];
+        long analyses = 0;
+        for (Map.Entry<String, FamilyRollup> entry : families.entrySet()) {
+            if (!ALL_FAMILIES.equals(jobFamily) && !entry.getKey().equals(jobFamily)) continue;
+            long[] familyBuckets = entry.getValue().scores.buckets();
+            for (int i = 0; i < buckets.length; i++) buckets[i] += familyBuckets[i];
+            analyses += entry.getValue().analyses.sum();
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("family", jobFamily);
+        summary.put("analyses", analyses);
+        summary.put("scores", ScoreHistogram.summarize(buckets));
+        return summary;
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.snapshot-interval-ms:60000}",
+            initialDelayString = "${app.analytics.snapshot-interval-ms:60000}")
+    @PreDestroy
+    public void snapshot() throws IOException {
+        Map<String, AnalyticsSnapshot.FamilySnapshot> familySnapshots = new TreeMap<>();
+        families.forEach((name, family) -> familySnapshots.put(name, new AnalyticsSnapshot.FamilySnapshot(
+                family.analyses.sum(), sums(family.missingSkills), family.scores.buckets())));
+        AnalyticsSnapshot snapshot = new AnalyticsSnapshot(sums(skillPrevalence), familySnapshots);
+
+        Path path = Paths.get(snapshotPath);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        objectMapper.writeValue(tmp.toFile(), snapshot);
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private FamilyRollup family(String name) {
+        return families.computeIfAbsent(name, n -> new FamilyRollup());
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> counters) {
+        Map<String, Long> sums = new TreeMap<>();
+        counters.forEach((key, count) -> sums.put(key, count.sum()));
+        return sums;
+    }
+
+    private static List<Map.Entry<String, Long>> top(Map<String, Long> counts, int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private static class FamilyRollup {
+        final LongAdder analyses = new LongAdder();
+        final Map<String, LongAdder> missingSkills = new ConcurrentHashMap<>();
+        final ScoreHistogram scores = new ScoreHistogram();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.resumeAnalyzer.demo.Analytics;
+
+import java.util.Map;
+
+/** On-disk form of the rollups: plain counters, restored by adding them back in. */
+public record AnalyticsSnapshot(Map<String, Long> skillPrevalence, Map<String, FamilySnapshot> families) {
+
+    public record FamilySnapshot(long analyses, Map<String, Long> missingSkills, long[] scores) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.resumeAnalyzer.demo.Analytics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exact histogram over integer scores 0-100. Two histograms merge by adding buckets, so
+ * per-family histograms roll up into an overall one and snapshots restore losslessly.
+ */
+public class ScoreHistogram {
+    public static final int BUCKETS = 101;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    public ScoreHistogram() {
+        for (int i = 0; i < BUCKETS; i++) counts[i] = new LongAdder();
+    }
+
+    public void record(int score) {
+        counts[Math.max(0, Math.min(100, score))].increment();
+    }
+
+    public void merge(long[] buckets) {
+        for (int i = 0; i < Math.min(BUCKETS, buckets.length); i++) counts[i].add(buckets[i]);
+    }
+
+    public long[] buckets() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = counts[i].sum();
+        return buckets;
+    }
+
+    public static Map<String, Object> summarize(long[] buckets) {
+        long total = 0;
+        long sum = 0;
+        for (int score = 0; score < buckets.length; score++) {
+            total += buckets[score];
+            sum += buckets[score] * score;
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", total);
+        summary.put("mean", total == 0 ? 0.0 : (double) sum / total);
+        summary.put("p50", percentile(buckets, total, 0.50));
+        summary.put("p90", percentile(buckets, total, 0.90));
+
+        // Ten-point bands read better than 101 buckets
+        Map<String, Long> bands = new LinkedHashMap<>();
+        for (int band = 0; band < 100; band += 10) {
+            long count = 0;
+            for (int score = band; score < band + 10 || (band == 90 && score == 100); score++) count += buckets[score];
+            bands.put(band + "-" + (band == 90 ? 100 : band + 9), count);
+        }
+        summary.put("histogram", bands);
+        return summary;
+    }
+
+    private static int percentile(long[] buckets, long total, double quantile) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int score = 0; score < buckets.length; score++) {
+            seen += buckets[score];
+            if (seen >= rank) return score;
+        }
+        return 100;
+    }
+}
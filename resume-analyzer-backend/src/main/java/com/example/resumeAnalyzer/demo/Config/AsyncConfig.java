@@ -0,0 +1,23 @@
+package com.example.resumeAnalyzer.demo.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // Runs streamed analyses; open streams wait in the queue without holding a thread
+    @Bean
+    public ThreadPoolTaskExecutor analysisExecutor(
+            @Value("${app.streaming.pool-size:8}") int poolSize,
+            @Value("${app.streaming.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-");
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.resumeAnalyzer.demo.Config;
+
+import com.example.resumeAnalyzer.demo.Scoring.ScoringMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.scoring")
+public class ScoringProperties {
+    // Model whose score is returned to clients
+    private String primary = "baseline";
+
+    // Optional A/B challenger and the share of requests (0.0 - 1.0) it serves instead of primary
+    private String candidate;
+    private double candidateShare = 0.0;
+
+    // Models scored on every request for comparison only
+    private List<String> shadow = new ArrayList<>();
+
+    // Model name -> mode -> feature name -> weight
+    private Map<String, Map<ScoringMode, Map<String, Double>>> models = new HashMap<>();
+}
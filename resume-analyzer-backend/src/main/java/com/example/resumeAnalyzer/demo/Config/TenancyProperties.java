@@ -0,0 +1,54 @@
+package com.example.resumeAnalyzer.demo.Config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.tenancy")
+public class TenancyProperties {
+    // Off: one implicit tenant, uploads run on the request thread as before
+    private boolean enabled = false;
+
+    // Request header carrying the tenant id. It is not authenticated: deploy behind a trusted
+    // gateway that sets it from the caller's credentials and drops any client-supplied value
+    private String header = "X-Tenant-Id";
+
+    // Cap on distinct tenant ids, so arbitrary header values cannot grow state without bound
+    private int maxTenants = 1000;
+
+    // Shared worker threads; queued work is dispatched onto them by weighted fair queuing
+    private int workers = 8;
+
+    // Parser calls in flight across all tenants
+    private int parserConcurrency = 8;
+
+    // How long /upload waits for its analysis, queue time included, before answering 503.
+    // Must stay below spring.mvc.async.request-timeout
+    private long uploadTimeoutMs = 120_000;
+
+    // Limits for tenants not listed under tenants
+    private Limits defaults = new Limits();
+
+    // Tenant id -> limits. Fields left unset fall back to the built-in values below, not to defaults
+    private Map<String, Limits> tenants = new HashMap<>();
+
+    @Data
+    public static class Limits {
+        // Relative share of worker time when tenants compete
+        private double weight = 1.0;
+        // Uploads waiting for a worker; further uploads are rejected with 429
+        private int queueCapacity = 100;
+        // Uploads of this tenant running at once. Capped at parserConcurrency: a task beyond the
+        // tenant's parser share would only park a shared worker on the tenant's parser semaphore
+        private int maxConcurrency = 2;
+        // Parser calls of this tenant in flight at once
+        private int parserConcurrency = 2;
+        // Estimated bytes of stored analyses; the oldest are dropped beyond it
+        private long maxStoredBytes = 64L * 1024 * 1024;
+    }
+}
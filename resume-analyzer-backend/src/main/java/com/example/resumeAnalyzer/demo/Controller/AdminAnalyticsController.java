@@ -0,0 +1,45 @@
+package com.example.resumeAnalyzer.demo.Controller;
+
+import com.example.resumeAnalyzer.demo.Analytics.AnalyticsRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/** Read-only aggregate queries, served from rollups rather than stored analyses. */
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class AdminAnalyticsController {
+    private final AnalyticsRollupService analytics;
+
+    @GetMapping("/families")
+    public ResponseEntity<Set<String>> families() {
+        return ResponseEntity.ok(analytics.families());
+    }
+
+    @GetMapping("/missing-skills")
+    public ResponseEntity<List<Map.Entry<String, Long>>> missingSkills(
+            @RequestParam(value = "family", defaultValue = AnalyticsRollupService.ALL_FAMILIES) String family,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(analytics.topMissingSkills(family, limit));
+    }
+
+    @GetMapping("/scores")
+    public ResponseEntity<Map<String, Object>> scores(
+            @RequestParam(value = "family", defaultValue = AnalyticsRollupService.ALL_FAMILIES) String family) {
+        return ResponseEntity.ok(analytics.scoreSummary(family));
+    }
+
+    @GetMapping("/skills")
+    public ResponseEntity<List<Map.Entry<String, Long>>> skillPrevalence(
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(analytics.skillPrevalence(limit));
+    }
+}
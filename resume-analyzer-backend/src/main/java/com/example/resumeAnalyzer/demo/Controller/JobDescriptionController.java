@@ -0,0 +1,32 @@
+package com.example.resumeAnalyzer.demo.Controller;
+
+import com.example.resumeAnalyzer.demo.JobDescription.JobProfile;
+import com.example.resumeAnalyzer.demo.JobDescription.JobProfileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/job-descriptions")
+@RequiredArgsConstructor
+public class JobDescriptionController {
+    private final JobProfileService jobProfileService;
+
+    /** Registers a JD; uploads can then pass the returned jdId instead of the text. */
+    @PostMapping
+    public ResponseEntity<JobProfile> register(@RequestParam("jobDescription") String jd) {
+        return ResponseEntity.ok(jobProfileService.register(jd));
+    }
+
+    @GetMapping("/{jdId}")
+    public ResponseEntity<JobProfile> get(@PathVariable String jdId) {
+        return ResponseEntity.ok(jobProfileService.registeredProfile(jdId));
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> cacheStats() {
+        return ResponseEntity.ok(jobProfileService.cacheStats());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.resumeAnalyzer.demo.Controller;
+
+import com.example.resumeAnalyzer.demo.Profiling.StageProfiler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/profiling")
+@RequiredArgsConstructor
+public class ProfilingController {
+    private final StageProfiler profiler;
+
+    @GetMapping("/stages")
+    public ResponseEntity<Map<String, Map<String, Long>>> stages() {
+        return ResponseEntity.ok(profiler.report());
+    }
+}
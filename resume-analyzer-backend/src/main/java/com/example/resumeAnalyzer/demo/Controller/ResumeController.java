@@ -1,29 +1,193 @@
 package com.example.resumeAnalyzer.demo.Controller;
 
+import com.example.resumeAnalyzer.demo.Config.TenancyProperties;
+import com.example.resumeAnalyzer.demo.JobDescription.JobProfileService;
+import com.example.resumeAnalyzer.demo.Journal.JournalEntry;
+import com.example.resumeAnalyzer.demo.Profiling.RequestProfile;
+import com.example.resumeAnalyzer.demo.Profiling.StageProfiler;
+import com.example.resumeAnalyzer.demo.Service.AnalysisProgressListener;
 import com.example.resumeAnalyzer.demo.Service.ResumeService;
+import com.example.resumeAnalyzer.demo.Tenancy.TenantRegistry;
+import com.example.resumeAnalyzer.demo.Tenancy.TenantScheduler;
 import com.example.resumeAnalyzer.demo.dto.AnalysisResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/api/resumes")
 @RequiredArgsConstructor
 public class ResumeController {
     private final ResumeService resumeService;
+    private final StageProfiler profiler;
+    private final ThreadPoolTaskExecutor analysisExecutor;
+    private final JobProfileService jobProfileService;
+    private final TenantRegistry tenantRegistry;
+    private final TenantScheduler tenantScheduler;
+    private final TenancyProperties tenancyProperties;
 
+    @Value("${app.streaming.timeout-ms:120000}")
+    private long streamTimeoutMs;
+
+    /**
+     * With tenancy on, the upload is stored and journaled on the request thread, then analysed on
+     * the tenant's share of the tenant workers. The request thread is released while the job is
+     * queued (Spring MVC async), so a tenant with a full queue holds no request threads; a full
+     * tenant queue answers 429. An upload not finished within app.tenancy.upload-timeout-ms
+     * answers 503, and is abandoned if it had not started yet.
+     */
     @PostMapping("/upload")
-    public ResponseEntity<AnalysisResponseDto> upload(
+    public CompletableFuture<ResponseEntity<AnalysisResponseDto>> upload(
             @RequestParam("file") MultipartFile file,
-            @RequestParam(value = "jobDescription", required = false) String jd) throws IOException {
-        return ResponseEntity.ok(resumeService.handleUploadAndAnalyze(file, jd));
+            @RequestParam(value = "jobDescription", required = false) String jdText,
+            @RequestParam(value = "jdId", required = false) String jdId,
+            @RequestHeader(value = "${app.tenancy.header:X-Tenant-Id}", required = false) String tenantHeader)
+            throws IOException {
+        String jd = jobProfileService.resolve(jdText, jdId);
+        if (!tenantRegistry.isEnabled()) {
+            return CompletableFuture.completedFuture(respond(profiled(() -> resumeService.handleUploadAndAnalyze(file, jd))));
+        }
+
+        String tenant = tenantRegistry.resolve(tenantHeader);
+        JournalEntry job = resumeService.accept(file, jd, tenant);
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<ProfiledUpload> analysis;
+        try {
+            analysis = tenantScheduler.submit(tenant, () -> {
+                if (!started.compareAndSet(false, true)) return null;
+                return profiled(() -> resumeService.process(job, AnalysisProgressListener.NONE));
+            });
+        } catch (TaskRejectedException e) {
+            resumeService.abandon(job);
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+        return analysis
+                .orTimeout(tenancyProperties.getUploadTimeoutMs(), TimeUnit.MILLISECONDS)
+                .handle((upload, error) -> {
+                    if (error instanceof TimeoutException) {
+                        if (started.compareAndSet(false, true)) {
+                            resumeService.abandon(job);
+                            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                                    "Resume " + job.jobId() + " timed out waiting for a worker");
+                        }
+                        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Resume " + job.jobId()
+                                + " is still being analysed, see GET /api/resumes/" + job.jobId() + "/analysis");
+                    }
+                    // Spring MVC unwraps the CompletionException and maps the cause as usual
+                    if (error != null) throw new CompletionException(error);
+                    return respond(upload);
+                });
+    }
+
+    private ResponseEntity<AnalysisResponseDto> respond(ProfiledUpload upload) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (upload.profile() != null && profiler.isDebugHeaderEnabled()) {
+            response.header(StageProfiler.DEBUG_HEADER, upload.profile().toHeaderValue());
+        }
+        return response.body(upload.result());
+    }
+
+    // The profile is per thread, so it is taken on whichever thread runs the analysis
+    private ProfiledUpload profiled(TenantScheduler.TenantTask<AnalysisResponseDto> analysis) throws IOException {
+        profiler.begin();
+        AnalysisResponseDto result;
+        RequestProfile profile;
+        try {
+            result = analysis.call();
+        } finally {
+            profile = profiler.finish();
+        }
+        return new ProfiledUpload(result, profile);
+    }
+
+    /**
+     * Same pipeline as /upload, streamed as server-sent events: stored, parsed, skills (JD only),
+     * score, recommendations, then done with the full result. The upload is stored and journaled
+     * on the request thread, since its multipart parts are gone once the request returns; the
+     * analysis then runs on the bounded analysis executor (or the tenant's share of the workers).
+     * A stream that times out or closes before its analysis starts abandons the job.
+     */
+    @PostMapping(value = "/upload/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter uploadStream(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "jobDescription", required = false) String jdText,
+            @RequestParam(value = "jdId", required = false) String jdId,
+            @RequestHeader(value = "${app.tenancy.header:X-Tenant-Id}", required = false) String tenantHeader)
+            throws IOException {
+        String jd = jobProfileService.resolve(jdText, jdId);
+        String tenant = tenantRegistry.resolve(tenantHeader);
+        JournalEntry job = resumeService.accept(file, jd, tenant);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        AtomicBoolean started = new AtomicBoolean();
+        Runnable abandonIfQueued = () -> {
+            if (started.compareAndSet(false, true)) resumeService.abandon(job);
+        };
+        emitter.onTimeout(() -> {
+            abandonIfQueued.run();
+            emitter.complete();
+        });
+        emitter.onError(e -> abandonIfQueued.run());
+        emitter.onCompletion(abandonIfQueued);
+
+        sendEvent(emitter, "stored", Map.of("resumeId", job.jobId()));
+        TenantScheduler.TenantTask<AnalysisResponseDto> analysis = () -> {
+            if (!started.compareAndSet(false, true)) return null;
+            try {
+                AnalysisResponseDto result = resumeService.process(job,
+                        (stage, payload) -> sendEvent(emitter, stage, payload));
+                sendEvent(emitter, "done", result);
+                emitter.complete();
+                return result;
+            } catch (IOException | RuntimeException e) {
+                sendEvent(emitter, "error", Map.of("message", String.valueOf(e.getMessage())));
+                emitter.complete();
+                // Rethrown so the tenant's metrics count it as failed, like a plain upload
+                throw e;
+            }
+        };
+        try {
+            if (tenantRegistry.isEnabled()) tenantScheduler.submit(tenant, analysis);
+            else analysisExecutor.submit(analysis::call);
+        } catch (TaskRejectedException e) {
+            sendEvent(emitter, "error", Map.of("message", "Server busy, try again later"));
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    // A client that went away must not abort the analysis; its result is still stored
+    private void sendEvent(SseEmitter emitter, String stage, Object payload) {
+        try {
+            emitter.send(SseEmitter.event().name(stage).data(payload, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            System.out.println("Dropping '" + stage + "' event, stream closed: " + e.getMessage());
+        }
     }
 
     @GetMapping("/{id}/analysis")
-    public ResponseEntity<AnalysisResponseDto> get(@PathVariable Long id) {
-        return ResponseEntity.ok(resumeService.getAnalysisByResumeId(id));
+    public ResponseEntity<AnalysisResponseDto> get(
+            @PathVariable Long id,
+            @RequestHeader(value = "${app.tenancy.header:X-Tenant-Id}", required = false) String tenantHeader) {
+        return ResponseEntity.ok(resumeService.getAnalysisByResumeId(tenantRegistry.resolve(tenantHeader), id));
+    }
+
+    private record ProfiledUpload(AnalysisResponseDto result, RequestProfile profile) {
     }
 }
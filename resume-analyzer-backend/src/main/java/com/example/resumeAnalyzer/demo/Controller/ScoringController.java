@@ -0,0 +1,22 @@
+package com.example.resumeAnalyzer.demo.Controller;
+
+import com.example.resumeAnalyzer.demo.Scoring.ScoringEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/scoring")
+@RequiredArgsConstructor
+public class ScoringController {
+    private final ScoringEngine scoringEngine;
+
+    @GetMapping("/models")
+    public ResponseEntity<Map<String, Map<String, Object>>> models() {
+        return ResponseEntity.ok(scoringEngine.report());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.resumeAnalyzer.demo.Controller;
+
+import com.example.resumeAnalyzer.demo.Tenancy.TenantRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/tenants")
+@RequiredArgsConstructor
+public class TenantController {
+    private final TenantRegistry tenantRegistry;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Map<String, Object>>> tenants() {
+        return ResponseEntity.ok(tenantRegistry.report());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.resumeAnalyzer.demo.JobDescription;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything the analysis needs from a job description, compiled once per distinct JD text.
+ * Immutable, so one instance is shared by every request against the same JD.
+ *
+ * @param jdId            SHA-256 of the normalised JD text; also the id handed out on registration
+ * @param requiredSkills  canonical skill names the JD asks for
+ * @param senior          mentions a senior or lead role
+ * @param startup         mentions a startup or fast-paced environment
+ * @param family          coarse job family (backend, frontend, ml, devops, general)
+ * @param roleSuggestions recommendations that depend only on the JD
+ */
+public record JobProfile(String jdId, Set<String> requiredSkills, boolean senior, boolean startup,
+                         String family, List<String> roleSuggestions) {
+
+    public JobProfile {
+        requiredSkills = Set.copyOf(requiredSkills);
+        roleSuggestions = List.copyOf(roleSuggestions);
+    }
+
+    // Rough retained size, for the cache's byte budget; errs on the high side
+    long estimatedBytes() {
+        long bytes = 160 + stringBytes(jdId) + stringBytes(family);
+        for (String skill : requiredSkills) bytes += 32 + stringBytes(skill);
+        for (String suggestion : roleSuggestions) bytes += 16 + stringBytes(suggestion);
+        return bytes;
+    }
+
+    private static long stringBytes(String s) {
+        return 48 + 2L * s.length();
+    }
+}
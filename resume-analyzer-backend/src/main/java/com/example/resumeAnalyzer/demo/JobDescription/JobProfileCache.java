@@ -0,0 +1,71 @@
+package com.example.resumeAnalyzer.demo.JobDescription;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of compiled job profiles, bounded both by entry count and by estimated bytes.
+ * Operations are short and run under the instance lock; compilation happens outside it.
+ */
+public class JobProfileCache {
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // Access-ordered, so iteration starts at the least recently used profile
+    private final LinkedHashMap<String, JobProfile> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long evictedBytes;
+    private long rejected;
+
+    public JobProfileCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized JobProfile get(String jdId) {
+        JobProfile profile = entries.get(jdId);
+        if (profile == null) misses++;
+        else hits++;
+        return profile;
+    }
+
+    public synchronized void put(JobProfile profile) {
+        long size = profile.estimatedBytes();
+        if (size > maxBytes) {
+            rejected++;
+            return;
+        }
+        JobProfile previous = entries.put(profile.jdId(), profile);
+        if (previous != null) bytes -= previous.estimatedBytes();
+        bytes += size;
+
+        Iterator<JobProfile> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            JobProfile evicted = eldest.next();
+            if (evicted == profile) break;
+            eldest.remove();
+            bytes -= evicted.estimatedBytes();
+            evictions++;
+            evictedBytes += evicted.estimatedBytes();
+        }
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("bytes", bytes);
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("evictions", evictions);
+        stats.put("evictedBytes", evictedBytes);
+        stats.put("rejected", rejected);
+        return stats;
+    }
+}
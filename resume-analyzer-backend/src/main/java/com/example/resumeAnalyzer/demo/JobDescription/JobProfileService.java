@@ -0,0 +1,198 @@
+package com.example.resumeAnalyzer.demo.JobDescription;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles job descriptions into {@link JobProfile}s and caches them by the hash of the
+ * normalised text, so the thousands of uploads against one JD share a single profile.
+ * JDs can also be registered up front and referenced by jdId instead of resending the text.
+ */
+@Service
+public class JobProfileService {
+
+    private static final Map<String, List<String>> SKILL_VARIATIONS = Map.ofEntries(
+            Map.entry("Java", List.of("java", "jdk", "java programming")),
+            Map.entry("Spring Boot", List.of("spring boot", "springboot", "spring framework", "spring")),
+            Map.entry("Docker", List.of("docker", "containerization", "containers")),
+            Map.entry("AWS", List.of("aws", "amazon web services", "cloud", "ec2", "s3")),
+            Map.entry("React", List.of("react", "reactjs", "react.js")),
+            Map.entry("Microservices", List.of("microservices", "microservice", "micro services")),
+            Map.entry("Python", List.of("python", "py")),
+            Map.entry("Node.js", List.of("node", "nodejs", "node.js")),
+            Map.entry("JavaScript", List.of("javascript", "js", "ecmascript")),
+            Map.entry("SQL", List.of("sql", "database", "mysql", "postgresql")),
+            Map.entry("Git", List.of("git", "version control", "github", "gitlab")),
+            Map.entry("Jenkins", List.of("jenkins", "ci/cd", "continuous integration"))
+    );
+
+    @Value("${app.jd-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${app.jd-cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${app.jd-cache.max-registered:10000}")
+    private int maxRegistered;
+
+    @Value("${app.jd-cache.max-registered-bytes:16777216}")
+    private long maxRegisteredBytes;
+
+    private JobProfileCache cache;
+
+    // jdId -> normalised JD text. Kept apart from the cache so an evicted profile can be recompiled
+    private final Map<String, String> registered = new ConcurrentHashMap<>();
+    private long registeredBytes;
+
+    @PostConstruct
+    void init() {
+        cache = new JobProfileCache(maxEntries, maxBytes);
+    }
+
+    public JobProfile profileFor(String jdText) {
+        String normalized = normalize(jdText);
+        String jdId = hash(normalized);
+        JobProfile profile = cache.get(jdId);
+        if (profile == null) {
+            // Two requests may race to compile the same JD; both get equal profiles, one is kept
+            profile = compile(jdId, normalized);
+            cache.put(profile);
+        }
+        return profile;
+    }
+
+    public JobProfile register(String jdText) {
+        if (jdText == null || jdText.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Job description is empty");
+        }
+        // Only the normalised text is kept; it compiles to the same profile as the original
+        String normalized = normalize(jdText);
+        JobProfile profile = profileFor(normalized);
+        synchronized (registered) {
+            if (registered.containsKey(profile.jdId())) return profile;
+            long bytes = textBytes(normalized);
+            if (registered.size() >= maxRegistered || registeredBytes + bytes > maxRegisteredBytes) {
+                throw new ResponseStatusException(HttpStatus.INSUFFICIENT_STORAGE,
+                        "Too many registered job descriptions");
+            }
+            registered.put(profile.jdId(), normalized);
+            registeredBytes += bytes;
+        }
+        return profile;
+    }
+
+    public JobProfile registeredProfile(String jdId) {
+        return profileFor(registeredText(jdId));
+    }
+
+    /**
+     * The JD text for an upload: the text itself, or the registered text for jdId. Uploads are
+     * journaled with the text, so a replayed job does not depend on the registry.
+     */
+    public String resolve(String jdText, String jdId) {
+        if (jdId == null || jdId.isBlank()) return jdText;
+        if (jdText != null && !jdText.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Send either jobDescription or jdId, not both");
+        }
+        return registeredText(jdId);
+    }
+
+    public Map<String, Object> cacheStats() {
+        Map<String, Object> stats = cache.stats();
+        synchronized (registered) {
+            stats.put("registered", registered.size());
+            stats.put("registeredBytes", registeredBytes);
+        }
+        return stats;
+    }
+
+    /** Coarse job family of lowercased text; also used for resumes without a JD. */
+    public static String detectRole(String lowerText) {
+        if (lowerText.contains("backend") || lowerText.contains("spring") || lowerText.contains("java")) {
+            return "backend";
+        } else if (lowerText.contains("frontend") || lowerText.contains("react") || lowerText.contains("javascript")) {
+            return "frontend";
+        } else if (lowerText.contains("machine learning") || lowerText.contains("python") || lowerText.contains("data")) {
+            return "ml";
+        } else if (lowerText.contains("devops") || lowerText.contains("docker") || lowerText.contains("aws")) {
+            return "devops";
+        }
+        return "general";
+    }
+
+    private String registeredText(String jdId) {
+        String text = registered.get(jdId);
+        if (text == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown jdId " + jdId);
+        }
+        return text;
+    }
+
+    // Rough heap cost of a registry entry: map node, 64-char hex key and the text itself
+    private static long textBytes(String text) {
+        return 32 + (48 + 128) + (48 + 2L * text.length());
+    }
+
+    private JobProfile compile(String jdId, String normalizedText) {
+        Set<String> requiredSkills = new HashSet<>();
+        for (Map.Entry<String, List<String>> entry : SKILL_VARIATIONS.entrySet()) {
+            for (String variation : entry.getValue()) {
+                if (normalizedText.contains(variation)) {
+                    requiredSkills.add(entry.getKey());
+                    break; // Found this skill, move to next
+                }
+            }
+        }
+
+        boolean senior = normalizedText.contains("senior") || normalizedText.contains("lead");
+        boolean startup = normalizedText.contains("startup") || normalizedText.contains("fast-paced");
+
+        List<String> suggestions = new ArrayList<>();
+        if (senior) {
+            suggestions.add("👨‍💼 Highlight leadership and mentoring experience for senior roles");
+            suggestions.add("📋 Emphasize project management and team coordination skills");
+        }
+        if (startup) {
+            suggestions.add("⚡ Showcase adaptability and ability to wear multiple hats");
+        }
+
+        System.out.println("Compiled JD profile " + jdId + ": " + requiredSkills);
+        return new JobProfile(jdId, requiredSkills, senior, startup, detectRole(normalizedText), suggestions);
+    }
+
+    // Lowercase and collapse whitespace, so trivially reformatted copies of a JD share a profile
+    static String normalize(String jdText) {
+        StringBuilder normalized = new StringBuilder(jdText.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < jdText.length(); i++) {
+            char c = jdText.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+            } else {
+                if (pendingSpace) normalized.append(' ');
+                normalized.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static String hash(String normalizedText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalizedText.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
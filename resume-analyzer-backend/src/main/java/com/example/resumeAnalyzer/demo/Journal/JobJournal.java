@@ -0,0 +1,233 @@
+package com.example.resumeAnalyzer.demo.Journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only journal of upload jobs. Each line is one stage transition:
+ * <pre>
+ *   A  id  storedPath(b64)  filename(b64)  jd(b64)  tenant(b64)   accepted, file is on disk
+ *   R  id                                       replay attempt started
+ *   D  id                                       done, result stored
+ *   F  id                                       failed, do not replay
+ * </pre>
+ * A single writer thread appends whatever is queued and fsyncs once per batch (group commit),
+ * so concurrent uploads share one fsync. Jobs with an A record but no D/F are incomplete and
+ * are replayed on startup, each attempt recorded so a job that keeps failing can be given up.
+ * When the file grows past compact-bytes it is rewritten with only the incomplete jobs.
+ */
+@Component
+public class JobJournal {
+    @Value("${app.journal.enabled:true}") private boolean enabled;
+    @Value("${app.journal.dir:./journal}") private String journalDir;
+    @Value("${app.journal.max-batch:256}") private int maxBatch;
+    @Value("${app.journal.compact-bytes:8388608}") private long compactBytes;
+
+    private static final String FILE_NAME = "jobs.log";
+
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    // Incomplete jobs by id -> their A and R lines, owned by the writer thread once started
+    private final Map<Long, String> pending = new LinkedHashMap<>();
+    private final List<JournalEntry> recovered = new ArrayList<>();
+    private final Map<Long, Integer> replayAttempts = new HashMap<>();
+    private long maxJobId;
+
+    private Path file;
+    private FileChannel channel;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) return;
+
+        Path dir = Paths.get(journalDir);
+        Files.createDirectories(dir);
+        file = dir.resolve(FILE_NAME);
+
+        if (Files.exists(file)) {
+            load();
+        }
+        // Start from a compacted file holding only the jobs still to be replayed
+        rewrite();
+
+        running = true;
+        writer = new Thread(this::writeLoop, "job-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void close() throws IOException, InterruptedException {
+        if (writer == null) return;
+        running = false;
+        writer.join(5000);
+        channel.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Highest job id seen in the journal, so new ids never collide with replayed ones. */
+    public long maxJobId() {
+        return maxJobId;
+    }
+
+    /** Jobs that were accepted but never finished before the last shutdown. */
+    public List<JournalEntry> incompleteJobs() {
+        return List.copyOf(recovered);
+    }
+
+    /** Records an accepted upload; the returned future completes once the record is on disk. */
+    public CompletableFuture<Void> accepted(JournalEntry entry) {
+        return append(entry.jobId(), 'A', String.join("\t",
+                encode(entry.storedPath()), encode(entry.originalFilename()), encode(entry.jobDescription()),
+                encode(entry.tenant())));
+    }
+
+    /** Replays of the job started before this run, whatever their outcome. */
+    public int replayAttempts(long jobId) {
+        return replayAttempts.getOrDefault(jobId, 0);
+    }
+
+    /** Records that a replay of the job is starting, so a crash during it still counts. */
+    public CompletableFuture<Void> replayAttempt(long jobId) {
+        return append(jobId, 'R', null);
+    }
+
+    public CompletableFuture<Void> completed(long jobId) {
+        return append(jobId, 'D', null);
+    }
+
+    public CompletableFuture<Void> failed(long jobId) {
+        return append(jobId, 'F', null);
+    }
+
+    private CompletableFuture<Void> append(long jobId, char type, String payload) {
+        if (!enabled) return CompletableFuture.completedFuture(null);
+
+        String line = type + "\t" + jobId + (payload == null ? "" : "\t" + payload) + "\n";
+        PendingRecord record = new PendingRecord(jobId, type, line, new CompletableFuture<>());
+        queue.add(record);
+        return record.written;
+    }
+
+    private void writeLoop() {
+        List<PendingRecord> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                // Polling rather than interrupting on shutdown: an interrupt would close the channel mid-write
+                PendingRecord first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, maxBatch - 1);
+
+            try {
+                StringBuilder lines = new StringBuilder();
+                for (PendingRecord record : batch) {
+                    lines.append(record.line);
+                    switch (record.type) {
+                        case 'A' -> pending.put(record.jobId, record.line);
+                        case 'R' -> pending.computeIfPresent(record.jobId, (id, jobLines) -> jobLines + record.line);
+                        default -> pending.remove(record.jobId);
+                    }
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(false);
+
+                batch.forEach(record -> record.written.complete(null));
+
+                if (channel.size() > compactBytes) rewrite();
+            } catch (IOException e) {
+                System.out.println("Job journal write failed: " + e.getMessage());
+                batch.forEach(record -> record.written.completeExceptionally(e));
+            }
+            batch.clear();
+        }
+    }
+
+    private void load() throws IOException {
+        Map<Long, JournalEntry> incomplete = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] cols = line.split("\t", -1);
+            try {
+                long jobId = Long.parseLong(cols[1]);
+                maxJobId = Math.max(maxJobId, jobId);
+                switch (cols[0]) {
+                    case "A" -> {
+                        // Records written before tenancy have no tenant column
+                        String tenant = cols.length > 5 ? decode(cols[5]) : null;
+                        incomplete.put(jobId, new JournalEntry(jobId, decode(cols[2]), decode(cols[3]), decode(cols[4]), tenant));
+                        pending.put(jobId, line + "\n");
+                    }
+                    case "R" -> {
+                        if (incomplete.containsKey(jobId)) {
+                            replayAttempts.merge(jobId, 1, Integer::sum);
+                            pending.computeIfPresent(jobId, (id, lines) -> lines + line + "\n");
+                        }
+                    }
+                    case "D", "F" -> {
+                        incomplete.remove(jobId);
+                        pending.remove(jobId);
+                        replayAttempts.remove(jobId);
+                    }
+                    default -> { }
+                }
+            } catch (RuntimeException e) {
+                // A torn last line from a crash mid-write; everything before it is intact
+                System.out.println("Skipping unreadable journal line: " + line);
+            }
+        }
+        recovered.addAll(incomplete.values());
+    }
+
+    // Writes the incomplete jobs to a temp file and atomically swaps it in
+    private void rewrite() throws IOException {
+        Path tmp = file.resolveSibling(FILE_NAME + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(String.join("", pending.values()).getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) out.write(buffer);
+            out.force(false);
+        }
+        if (channel != null) channel.close();
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static String encode(String value) {
+        if (value == null) return "";
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        if (value.isEmpty()) return null;
+        return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private record PendingRecord(long jobId, char type, String line, CompletableFuture<Void> written) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.resumeAnalyzer.demo.Journal;
+
+/** An accepted upload: enough to re-run the analysis from the stored file, for the same tenant. */
+public record JournalEntry(long jobId, String storedPath, String originalFilename, String jobDescription,
+                           String tenant) {
+}
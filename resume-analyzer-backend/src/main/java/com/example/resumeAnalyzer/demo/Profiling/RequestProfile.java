@@ -0,0 +1,42 @@
+package com.example.resumeAnalyzer.demo.Profiling;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Bytes allocated and CPU time per pipeline stage for a single request, in stage order. */
+public class RequestProfile {
+    private final Map<String, long[]> stages = new LinkedHashMap<>();
+
+    void add(String stage, long bytes, long cpuNanos) {
+        long[] totals = stages.computeIfAbsent(stage, s -> new long[2]);
+        totals[0] += bytes;
+        totals[1] += cpuNanos;
+    }
+
+    public Map<String, long[]> stages() {
+        return Collections.unmodifiableMap(stages);
+    }
+
+    public long allocatedBytes(String stage) {
+        long[] totals = stages.get(stage);
+        return totals == null ? 0 : totals[0];
+    }
+
+    public long cpuNanos(String stage) {
+        long[] totals = stages.get(stage);
+        return totals == null ? 0 : totals[1];
+    }
+
+    // e.g. "parse;alloc=52344;cpu=1.250, score;alloc=8800;cpu=0.310" (cpu in milliseconds)
+    public String toHeaderValue() {
+        StringBuilder header = new StringBuilder();
+        stages.forEach((stage, totals) -> {
+            if (header.length() > 0) header.append(", ");
+            header.append(stage)
+                    .append(";alloc=").append(totals[0])
+                    .append(";cpu=").append(String.format("%.3f", totals[1] / 1_000_000.0));
+        });
+        return header.toString();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.resumeAnalyzer.demo.Profiling;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records bytes allocated and CPU time per pipeline stage using the JVM's per-thread counters.
+ * A request is profiled between begin() and finish() on the same thread; stages opened outside
+ * of a profiled request, or with profiling disabled, cost a ThreadLocal lookup and nothing else.
+ */
+@Component
+public class StageProfiler {
+    @Value("${app.profiling.enabled:false}") private boolean enabled;
+    @Value("${app.profiling.debug-header:false}") private boolean debugHeader;
+
+    public static final String DEBUG_HEADER = "X-Analysis-Profile";
+
+    private static final Stage NOOP = new Stage(null, null, 0, 0);
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, StageTotals> totals = new ConcurrentHashMap<>();
+    private com.sun.management.ThreadMXBean threads;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) return;
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mxBean)
+                || !mxBean.isThreadAllocatedMemorySupported() || !mxBean.isCurrentThreadCpuTimeSupported()) {
+            System.out.println("Stage profiling disabled: thread allocation counters not supported by this JVM");
+            enabled = false;
+            return;
+        }
+        mxBean.setThreadAllocatedMemoryEnabled(true);
+        mxBean.setThreadCpuTimeEnabled(true);
+        threads = mxBean;
+    }
+
+    public boolean isDebugHeaderEnabled() {
+        return enabled && debugHeader;
+    }
+
+    public void begin() {
+        if (enabled) CURRENT.set(new RequestProfile());
+    }
+
+    public Stage stage(String name) {
+        RequestProfile profile = CURRENT.get();
+        if (profile == null) return NOOP;
+        return new Stage(this, name, threads.getCurrentThreadAllocatedBytes(), threads.getCurrentThreadCpuTime());
+    }
+
+    /** Ends the current request's profile, folds it into the totals and returns it (null if not profiling). */
+    public RequestProfile finish() {
+        RequestProfile profile = CURRENT.get();
+        if (profile == null) return null;
+        CURRENT.remove();
+
+        profile.stages().forEach((stage, values) ->
+                totals.computeIfAbsent(stage, s -> new StageTotals()).add(values[0], values[1]));
+        return profile;
+    }
+
+    public Map<String, Map<String, Long>> report() {
+        Map<String, Map<String, Long>> report = new LinkedHashMap<>();
+        totals.forEach((stage, stageTotals) -> report.put(stage, stageTotals.snapshot()));
+        return report;
+    }
+
+    private void record(String stage, long startBytes, long startCpu) {
+        RequestProfile profile = CURRENT.get();
+        if (profile == null) return;
+        profile.add(stage,
+                threads.getCurrentThreadAllocatedBytes() - startBytes,
+                threads.getCurrentThreadCpuTime() - startCpu);
+    }
+
+    public static class Stage implements AutoCloseable {
+        private final StageProfiler profiler;
+        private final String name;
+        private final long startBytes;
+        private final long startCpu;
+
+        private Stage(StageProfiler profiler, String name, long startBytes, long startCpu) {
+            this.profiler = profiler;
+            this.name = name;
+            this.startBytes = startBytes;
+            this.startCpu = startCpu;
+        }
+
+        @Override
+        public void close() {
+            if (profiler != null) profiler.record(name, startBytes, startCpu);
+        }
+    }
+
+    private static class StageTotals {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+
+        void add(long allocated, long cpu) {
+            requests.increment();
+            bytes.add(allocated);
+            cpuNanos.add(cpu);
+        }
+
+        Map<String, Long> snapshot() {
+            long count = requests.sum();
+            Map<String, Long> snapshot = new LinkedHashMap<>();
+            snapshot.put("requests", count);
+            snapshot.put("avgAllocatedBytes", count == 0 ? 0 : bytes.sum() / count);
+            snapshot.put("avgCpuMicros", count == 0 ? 0 : cpuNanos.sum() / count / 1000);
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.resumeAnalyzer.demo.Scoring;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/** Compiles feature-name weights into flat arrays once, at startup. */
+public class LinearScoringModel implements ScoringModel {
+    private final String name;
+    private final double[][] weightsByMode = new double[ScoringMode.values().length][];
+
+    public LinearScoringModel(String name, Map<ScoringMode, Map<String, Double>> weights) {
+        this.name = name;
+        for (ScoringMode mode : ScoringMode.values()) {
+            weightsByMode[mode.ordinal()] = compile(name, weights.getOrDefault(mode, Collections.emptyMap()));
+        }
+    }
+
+    // Existing behaviour: Skills(50%) + Experience(30%) + Content Quality(20%) for JD matches,
+    // Structure(40%) + Skill Diversity(30%) + Content Richness(30%) for standalone resumes
+    public static LinearScoringModel baseline() {
+        Map<ScoringMode, Map<String, Double>> weights = new EnumMap<>(ScoringMode.class);
+        weights.put(ScoringMode.JOB_MATCH, Map.of(
+                "skill-match", 0.5, "experience", 0.3, "content-quality", 0.2));
+        weights.put(ScoringMode.RESUME_QUALITY, Map.of(
+                "structure", 0.4, "skill-diversity", 0.3, "content-richness", 0.3));
+        return new LinearScoringModel("baseline", weights);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public double[] weights(ScoringMode mode) {
+        return weightsByMode[mode.ordinal()];
+    }
+
+    private static double[] compile(String model, Map<String, Double> weights) {
+        double[] compiled = new double[ScoringFeature.COUNT];
+        for (Map.Entry<String, Double> entry : weights.entrySet()) {
+            compiled[featureFor(model, entry.getKey()).ordinal()] = entry.getValue();
+        }
+        return compiled;
+    }
+
+    // Accepts "skill-match", "skillMatch" or "SKILL_MATCH"
+    private static ScoringFeature featureFor(String model, String key) {
+        String constant = key.replaceAll("([a-z])([A-Z])", "$1_$2")
+                .replace('-', '_')
+                .toUpperCase();
+        try {
+            return ScoringFeature.valueOf(constant);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown scoring feature '" + key + "' in model " + model);
+        }
+    }
+}
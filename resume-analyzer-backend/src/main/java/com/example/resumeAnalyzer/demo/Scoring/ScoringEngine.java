@@ -0,0 +1,86 @@
+package com.example.resumeAnalyzer.demo.Scoring;
+
+import com.example.resumeAnalyzer.demo.Config.ScoringProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+public class ScoringEngine {
+    private final ScoringProperties properties;
+    private final List<ScoringModel> modelBeans;
+
+    private final Map<String, ScoringModel> models = new LinkedHashMap<>();
+    private final Map<String, ScoringModelStats> stats = new ConcurrentHashMap<>();
+
+    private ScoringModel primary;
+    private ScoringModel candidate;
+    private List<ScoringModel> shadows = List.of();
+
+    @PostConstruct
+    void init() {
+        register(LinearScoringModel.baseline());
+        modelBeans.forEach(this::register);
+        properties.getModels().forEach((name, weights) -> register(new LinearScoringModel(name, weights)));
+
+        primary = resolve(properties.getPrimary());
+        candidate = properties.getCandidate() == null || properties.getCandidate().isBlank()
+                ? null : resolve(properties.getCandidate());
+        shadows = properties.getShadow().stream().map(this::resolve).toList();
+
+        System.out.println("Scoring models: " + models.keySet() + ", primary=" + primary.name()
+                + (candidate != null ? ", candidate=" + candidate.name() + "@" + properties.getCandidateShare() : "")
+                + (shadows.isEmpty() ? "" : ", shadow=" + properties.getShadow()));
+    }
+
+    /**
+     * Scores the feature vector with the serving model (primary, or the A/B candidate for its
+     * share of traffic) and with every shadow model. Only the serving model's score is returned.
+     */
+    public int score(ScoringMode mode, double[] features) {
+        ScoringModel serving = primary;
+        if (candidate != null && ThreadLocalRandom.current().nextDouble() < properties.getCandidateShare()) {
+            serving = candidate;
+        }
+
+        int result = timedScore(serving, mode, features);
+        for (ScoringModel shadow : shadows) {
+            if (shadow != serving) timedScore(shadow, mode, features);
+        }
+        return result;
+    }
+
+    public Map<String, Map<String, Object>> report() {
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        for (String name : models.keySet()) {
+            ScoringModelStats modelStats = stats.get(name);
+            if (modelStats != null) report.put(name, modelStats.snapshot());
+        }
+        return report;
+    }
+
+    private int timedScore(ScoringModel model, ScoringMode mode, double[] features) {
+        long start = System.nanoTime();
+        int score = model.score(mode, features);
+        stats.computeIfAbsent(model.name(), n -> new ScoringModelStats())
+                .record(mode, score, System.nanoTime() - start);
+        return score;
+    }
+
+    private void register(ScoringModel model) {
+        models.put(model.name(), model);
+    }
+
+    private ScoringModel resolve(String name) {
+        ScoringModel model = models.get(name);
+        if (model == null) {
+            throw new IllegalStateException("Unknown scoring model '" + name + "', known: " + models.keySet());
+        }
+        return model;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.resumeAnalyzer.demo.Scoring;
+
+/**
+ * Sub-scores computed once per request by ScoreService. Models weight them by ordinal,
+ * so a model is just a flat weight vector over this enum.
+ */
+public enum ScoringFeature {
+    SKILL_MATCH,
+    EXPERIENCE,
+    CONTENT_QUALITY,
+    STRUCTURE,
+    SKILL_DIVERSITY,
+    CONTENT_RICHNESS;
+
+    public static final int COUNT = values().length;
+}
@@ -0,0 +1,8 @@
+package com.example.resumeAnalyzer.demo.Scoring;
+
+public enum ScoringMode {
+    // Resume scored against a job description
+    JOB_MATCH,
+    // Resume scored on its own
+    RESUME_QUALITY
+}
@@ -0,0 +1,21 @@
+package com.example.resumeAnalyzer.demo.Scoring;
+
+/**
+ * A scoring model is a weight vector per mode, indexed by ScoringFeature ordinal.
+ * Implementations may be declared as Spring beans or configured under app.scoring.models.
+ */
+public interface ScoringModel {
+
+    String name();
+
+    double[] weights(ScoringMode mode);
+
+    default int score(ScoringMode mode, double[] features) {
+        double[] weights = weights(mode);
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i] * features[i];
+        }
+        return Math.min(100, (int) Math.round(sum));
+    }
+}
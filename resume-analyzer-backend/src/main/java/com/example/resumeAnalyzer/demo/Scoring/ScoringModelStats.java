@@ -0,0 +1,49 @@
+package com.example.resumeAnalyzer.demo.Scoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Per-model call count, latency and score distribution (one bucket per score 0-100). */
+class ScoringModelStats {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLongArray[] histograms = new AtomicLongArray[ScoringMode.values().length];
+
+    ScoringModelStats() {
+        for (int i = 0; i < histograms.length; i++) histograms[i] = new AtomicLongArray(101);
+    }
+
+    void record(ScoringMode mode, int score, long nanos) {
+        calls.increment();
+        totalNanos.add(nanos);
+        histograms[mode.ordinal()].incrementAndGet(Math.max(0, Math.min(100, score)));
+    }
+
+    Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        long count = calls.sum();
+        snapshot.put("calls", count);
+        snapshot.put("avgNanos", count == 0 ? 0 : totalNanos.sum() / count);
+
+        for (ScoringMode mode : ScoringMode.values()) {
+            AtomicLongArray histogram = histograms[mode.ordinal()];
+            long n = 0, sum = 0;
+            Map<Integer, Long> buckets = new LinkedHashMap<>();
+            for (int score = 0; score <= 100; score++) {
+                long c = histogram.get(score);
+                if (c == 0) continue;
+                buckets.put(score, c);
+                n += c;
+                sum += c * score;
+            }
+            Map<String, Object> distribution = new LinkedHashMap<>();
+            distribution.put("count", n);
+            distribution.put("mean", n == 0 ? 0.0 : (double) sum / n);
+            distribution.put("histogram", buckets);
+            snapshot.put(mode.name(), distribution);
+        }
+        return snapshot;
+    }
+}
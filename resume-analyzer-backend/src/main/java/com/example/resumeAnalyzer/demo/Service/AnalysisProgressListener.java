@@ -0,0 +1,12 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+/**
+ * Receives pipeline stage events as an upload is processed. Stages, in order:
+ * stored, parsed, skills (JD flow only), score, recommendations.
+ */
+@FunctionalInterface
+public interface AnalysisProgressListener {
+    AnalysisProgressListener NONE = (stage, payload) -> { };
+
+    void onStage(String stage, Object payload);
+}
@@ -1,7 +1,12 @@
 package com.example.resumeAnalyzer.demo.Service;
 
+import com.example.resumeAnalyzer.demo.Analytics.AnalyticsRollupService;
+import com.example.resumeAnalyzer.demo.JobDescription.JobProfile;
+import com.example.resumeAnalyzer.demo.JobDescription.JobProfileService;
+import com.example.resumeAnalyzer.demo.Profiling.StageProfiler;
 import com.example.resumeAnalyzer.demo.dto.AnalysisResponseDto;
 import com.example.resumeAnalyzer.demo.dto.ParseResultDto;
+import com.example.resumeAnalyzer.demo.dto.SectionIndex.Section;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +19,15 @@ public class AnalysisService {
     @Autowired
     private ScoreService scoreService;
 
+    @Autowired
+    private SkillSimilarityService skillSimilarityService;
+
+    @Autowired
+    private StageProfiler profiler;
+
+    @Autowired
+    private JobProfileService jobProfileService;
+
     private static final Map<String, List<String>> SKILL_TAXONOMY = Map.of(
             "backend", List.of("Spring Boot", "Java", "REST APIs", "Microservices", "Docker", "Kubernetes"),
             "frontend", List.of("React", "Angular", "JavaScript", "TypeScript", "HTML", "CSS"),
@@ -28,27 +42,60 @@ public class AnalysisService {
     );
 
     public AnalysisResponseDto analyze(ParseResultDto parse, String jdText, Long resumeId) {
+        return analyze(parse, jdText, resumeId, AnalysisProgressListener.NONE);
+    }
+
+    public AnalysisResponseDto analyze(ParseResultDto parse, String jdText, Long resumeId,
+                                       AnalysisProgressListener listener) {
         AnalysisResponseDto analysisResponseDto = new AnalysisResponseDto();
         analysisResponseDto.resumeId = resumeId;
         analysisResponseDto.status = "DONE";
         analysisResponseDto.parserResult = parse;
+        analysisResponseDto.jobFamily = AnalyticsRollupService.NO_JD_FAMILY;
 
         if (jdText != null && !jdText.isBlank()) {
             // Flow A: Resume + JD
-            return analyzeWithJobDescription(analysisResponseDto, parse, jdText);
+            return analyzeWithJobDescription(analysisResponseDto, parse, jdText, listener);
         } else {
-            return analyzeResume(analysisResponseDto, parse);
+            return analyzeResume(analysisResponseDto, parse, listener);
         }
     }
 
     private AnalysisResponseDto analyzeWithJobDescription(AnalysisResponseDto resp,
-                                                          ParseResultDto parse, String jdText) {
-        // Step 1: Get skills from parser and JD
+                                                          ParseResultDto parse, String jdText,
+                                                          AnalysisProgressListener listener) {
+        SkillMatch skills;
+        try (StageProfiler.Stage ignored = profiler.stage("skills")) {
+            skills = matchSkills(parse, jdText);
+        }
+        resp.jobFamily = skills.jobProfile().family();
+        resp.skillsMatched = new ArrayList<>(skills.matched());
+        resp.skillsMissing = new ArrayList<>(skills.missing());
+        listener.onStage("skills", Map.of("skillsMatched", resp.skillsMatched, "skillsMissing", resp.skillsMissing));
+
+        // Use advanced scoring engine
+        try (StageProfiler.Stage ignored = profiler.stage("score")) {
+            resp.score = scoreService.calculateAdvancedScore(skills.matched(), skills.jobProfile().requiredSkills(),
+                    skills.partialMatches(), parse);
+        }
+        listener.onStage("score", Map.of("score", resp.score));
+
+        try (StageProfiler.Stage ignored = profiler.stage("recommendations")) {
+            resp.recommendations = generateJobSpecificRecommendations(skills.missing(), skills.jobProfile());
+        }
+        listener.onStage("recommendations", Map.of("recommendations", resp.recommendations));
+
+        return resp;
+    }
+
+    private SkillMatch matchSkills(ParseResultDto parse, String jdText) {
+        // Step 1: Get skills from parser and the (usually cached) compiled JD
+        JobProfile jobProfile = jobProfileService.profileFor(jdText);
         Set<String> resumeSkills = normalizeSkills(parse.skills);
-        Set<String> jdSkills = extractSkillsFromJD(jdText);
+        Set<String> jdSkills = jobProfile.requiredSkills();
 
         // Step 2: CALL extractAdditionalSkillsFromText HERE to catch missed skills
-        Set<String> additionalSkills = extractAdditionalSkillsFromText(parse.rawText, jdSkills);
+        Set<String> additionalSkills = extractAdditionalSkillsFromText(parse.lowerText(), jdSkills);
 
         // Step 3: Merge all resume skills
         Set<String> allResumeSkills = new HashSet<>(resumeSkills);
@@ -75,25 +122,35 @@ public class AnalysisService {
         Set<String> missing = new HashSet<>(jdSkills);
         missing.removeAll(matched);
 
-        resp.skillsMatched = new ArrayList<>(matched);
-        resp.skillsMissing = new ArrayList<>(missing);
-
-        // Use advanced scoring engine
-        resp.score = scoreService.calculateAdvancedScore(matched, jdSkills, parse);
+        // A resume naming the skill by another alias (k8s for Kubernetes) has matched it outright
+        Set<String> aliasMatched = skillSimilarityService.aliasMatches(allResumeSkills, missing);
+        matched.addAll(aliasMatched);
+        missing.removeAll(aliasMatched);
 
-        resp.recommendations = generateJobSpecificRecommendations(missing, parse, jdText);
+        // Optional: partial credit for missing skills that are close to something on the resume
+        Map<String, Double> partialMatches = skillSimilarityService.partialMatches(allResumeSkills, missing);
+        return new SkillMatch(jobProfile, matched, missing, partialMatches);
+    }
 
-        return resp;
+    private record SkillMatch(JobProfile jobProfile, Set<String> matched, Set<String> missing,
+                              Map<String, Double> partialMatches) {
     }
 
 
 
-    private AnalysisResponseDto analyzeResume(AnalysisResponseDto analysisResponseDto, ParseResultDto parse) {
+    private AnalysisResponseDto analyzeResume(AnalysisResponseDto analysisResponseDto, ParseResultDto parse,
+                                              AnalysisProgressListener listener) {
         analysisResponseDto.skillsMatched = parse.skills;
         analysisResponseDto.skillsMissing = Collections.emptyList();
-        analysisResponseDto.score = scoreService.calculateResumeQualityScore(parse);
+        try (StageProfiler.Stage ignored = profiler.stage("score")) {
+            analysisResponseDto.score = scoreService.calculateResumeQualityScore(parse);
+        }
+        listener.onStage("score", Map.of("score", analysisResponseDto.score));
 
-        analysisResponseDto.recommendations = generateResumeImprovementSuggestions(parse);
+        try (StageProfiler.Stage ignored = profiler.stage("recommendations")) {
+            analysisResponseDto.recommendations = generateResumeImprovementSuggestions(parse);
+        }
+        listener.onStage("recommendations", Map.of("recommendations", analysisResponseDto.recommendations));
 
         return analysisResponseDto;
     }
@@ -115,9 +172,8 @@ public class AnalysisService {
         return normalizedSkills;
     }
 
-    private Set<String> extractAdditionalSkillsFromText(String rawText, Set<String> jdSkills) {
+    private Set<String> extractAdditionalSkillsFromText(String lowerText, Set<String> jdSkills) {
         Set<String> additionalSkills = new HashSet<>();
-        String lowerText = rawText.toLowerCase();
 
         for (String jdSkill : jdSkills) {
             String skillLower = jdSkill.toLowerCase();
@@ -164,42 +220,6 @@ public class AnalysisService {
                 .replaceAll("\\s+", " ");
     }
 
-    // Update your extractSkillsFromJD method to be more comprehensive
-    private Set<String> extractSkillsFromJD(String jdText) {
-        Set<String> extractedSkills = new HashSet<>();
-        String normalizedText = jdText.toLowerCase();
-
-        // FIXED: Use Map.ofEntries() instead of Map.of() for more than 10 entries
-        Map<String, List<String>> skillVariations = Map.ofEntries(
-                Map.entry("Java", List.of("java", "jdk", "java programming")),
-                Map.entry("Spring Boot", List.of("spring boot", "springboot", "spring framework", "spring")),
-                Map.entry("Docker", List.of("docker", "containerization", "containers")),
-                Map.entry("AWS", List.of("aws", "amazon web services", "cloud", "ec2", "s3")),
-                Map.entry("React", List.of("react", "reactjs", "react.js")),
-                Map.entry("Microservices", List.of("microservices", "microservice", "micro services")),
-                Map.entry("Python", List.of("python", "py")),
-                Map.entry("Node.js", List.of("node", "nodejs", "node.js")),
-                Map.entry("JavaScript", List.of("javascript", "js", "ecmascript")),
-                Map.entry("SQL", List.of("sql", "database", "mysql", "postgresql")),
-                Map.entry("Git", List.of("git", "version control", "github", "gitlab")),
-                Map.entry("Jenkins", List.of("jenkins", "ci/cd", "continuous integration"))
-        );
-
-        for (Map.Entry<String, List<String>> entry : skillVariations.entrySet()) {
-            String skillName = entry.getKey();
-            List<String> variations = entry.getValue();
-
-            for (String variation : variations) {
-                if (normalizedText.contains(variation)) {
-                    extractedSkills.add(skillName);
-                    break; // Found this skill, move to next
-                }
-            }
-        }
-
-        System.out.println("Skills found in JD: " + extractedSkills);
-        return extractedSkills;
-    }
 
 
 
@@ -248,7 +268,7 @@ public class AnalysisService {
 //        };
 //    }
 
-    private List<String> generateJobSpecificRecommendations(Set<String> missingSkills, ParseResultDto parse, String jdText) {
+    private List<String> generateJobSpecificRecommendations(Set<String> missingSkills, JobProfile jobProfile) {
         List<String> recommendations = new ArrayList<>();
         // Prioritize missing skills by importance
         List<String> prioritizedSkills = missingSkills.stream()
@@ -259,7 +279,7 @@ public class AnalysisService {
         for (String skill : prioritizedSkills) {
             recommendations.add("Learn " + skill + " to match job requirements - high priority for this role");
         }
-        recommendations.addAll(generateRoleSpecificSuggestions(jdText, parse));
+        recommendations.addAll(jobProfile.roleSuggestions());
         return recommendations;
     }
 
@@ -272,20 +292,6 @@ public class AnalysisService {
         return importance.getOrDefault(skill, 50);
     }
 
-    private List<String> generateRoleSpecificSuggestions(String jdText, ParseResultDto parse) {
-        List<String> suggestions = new ArrayList<>();
-        String lowerJD = jdText.toLowerCase();
-
-        if (lowerJD.contains("senior") || lowerJD.contains("lead")) {
-            suggestions.add("👨‍💼 Highlight leadership and mentoring experience for senior roles");
-            suggestions.add("📋 Emphasize project management and team coordination skills");
-        }
-        if (lowerJD.contains("startup") || lowerJD.contains("fast-paced")) {
-            suggestions.add("⚡ Showcase adaptability and ability to wear multiple hats");
-        }
-        return suggestions;
-    }
-
     private List<String> generateResumeImprovementSuggestions(ParseResultDto parse) {
         List<String> suggestions = new ArrayList<>();
 
@@ -313,7 +319,7 @@ public class AnalysisService {
             suggestions.add("💼 Add detailed work experience with specific achievements");
         }
 
-        int wordCount = parse.rawText.split("\\s+").length;
+        int wordCount = parse.wordCount();
         if (wordCount > 800) {
             suggestions.add("📄 Resume is too long (" + wordCount + " words). Aim for 400-600 words");
         } else if (wordCount < 200) {
@@ -331,11 +337,11 @@ public class AnalysisService {
             suggestions.add("📊 Add quantifiable achievements (e.g., 'Improved performance by 30%', 'Led team of 5')");
         }
 
-        if (!hasActionVerbs(rawText)) {
+        if (!hasActionVerbs(parse.lowerText())) {
             suggestions.add("⚡ Use strong action verbs like 'developed', 'implemented', 'optimized', 'led'");
         }
 
-        if (containsPersonalPronouns(rawText)) {
+        if (containsPersonalPronouns(parse.lowerSection(Section.SUMMARY, Section.EXPERIENCE))) {
             suggestions.add("✏️ Remove personal pronouns (I, me, my) for more professional tone");
         }
 
@@ -349,8 +355,8 @@ public class AnalysisService {
             suggestions.add("🔧 Add more relevant technical skills to strengthen your profile");
         }
 
-        // Suggest trending skills based on detected role
-        String detectedRole = detectRoleFromText(parse.rawText);
+        // Suggest trending skills based on the role implied by the summary and skills sections
+        String detectedRole = JobProfileService.detectRole(parse.lowerSection(Section.SUMMARY, Section.SKILLS));
         List<String> trendingSkills = getTrendingSkillsForRole(detectedRole);
 
         for (String trendingSkill : trendingSkills.subList(0, Math.min(2, trendingSkills.size()))) {
@@ -379,33 +385,18 @@ public class AnalysisService {
                 .anyMatch(pattern -> text.matches(".*" + pattern + ".*"));
     }
 
-    private boolean hasActionVerbs(String text) {
+    private boolean hasActionVerbs(String lowerText) {
         String[] actionVerbs = {"developed", "implemented", "created", "led", "managed", "built",
                 "designed", "optimized", "improved", "achieved", "delivered"};
-        String lowerText = text.toLowerCase();
         return Arrays.stream(actionVerbs)
                 .anyMatch(lowerText::contains);
     }
 
-    private boolean containsPersonalPronouns(String text) {
+    private boolean containsPersonalPronouns(String lowerText) {
         String[] pronouns = {" i ", " me ", " my ", " mine "};
-        String lowerText = " " + text.toLowerCase() + " ";
+        String padded = " " + lowerText + " ";
         return Arrays.stream(pronouns)
-                .anyMatch(lowerText::contains);
-    }
-
-    private String detectRoleFromText(String text) {
-        String lowerText = text.toLowerCase();
-        if (lowerText.contains("backend") || lowerText.contains("spring") || lowerText.contains("java")) {
-            return "backend";
-        } else if (lowerText.contains("frontend") || lowerText.contains("react") || lowerText.contains("javascript")) {
-            return "frontend";
-        } else if (lowerText.contains("machine learning") || lowerText.contains("python") || lowerText.contains("data")) {
-            return "ml";
-        } else if (lowerText.contains("devops") || lowerText.contains("docker") || lowerText.contains("aws")) {
-            return "devops";
-        }
-        return "general";
+                .anyMatch(padded::contains);
     }
 
     private List<String> getTrendingSkillsForRole(String role) {
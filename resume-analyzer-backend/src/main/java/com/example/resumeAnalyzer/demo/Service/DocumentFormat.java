@@ -0,0 +1,83 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Upload formats the parser can extract. Applies the same checks as the parser's detect_format
+ * (PDF magic, a zip holding word/document.xml, NUL-free UTF-8 text) so uploads the parser would
+ * refuse are rejected before they are stored; the parser does the full extraction.
+ */
+public enum DocumentFormat {
+    PDF, DOCX, TEXT, UNKNOWN;
+
+    private static final int SNIFF_BYTES = 4096;
+    private static final String DOCX_MAIN_PART = "word/document.xml";
+
+    public static DocumentFormat detect(InputStream in) throws IOException {
+        byte[] head = in.readNBytes(SNIFF_BYTES);
+        if (startsWith(head, '%', 'P', 'D', 'F')) return PDF;
+        if (startsWith(head, 'P', 'K', 3, 4)) {
+            return isDocx(new SequenceInputStream(new ByteArrayInputStream(head), in)) ? DOCX : UNKNOWN;
+        }
+        if (head.length > 0 && !containsNul(head)
+                && isUtf8(new SequenceInputStream(new ByteArrayInputStream(head), in))) {
+            return TEXT;
+        }
+        return UNKNOWN;
+    }
+
+    private static boolean isDocx(InputStream in) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().equals(DOCX_MAIN_PART)) return true;
+            }
+            return false;
+        } catch (ZipException e) {
+            return false;
+        }
+    }
+
+    // The parser decodes the whole file as UTF-8, so the whole file is checked
+    private static boolean isUtf8(InputStream in) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        char[] buffer = new char[8192];
+        try (Reader reader = new InputStreamReader(in, decoder)) {
+            while (reader.read(buffer) >= 0) {
+                // decode only
+            }
+            return true;
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
+    private static boolean startsWith(byte[] data, int... prefix) {
+        if (data.length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    private static boolean containsNul(byte[] data) {
+        for (byte b : data) {
+            if (b == 0) return true;
+        }
+        return false;
+    }
+}
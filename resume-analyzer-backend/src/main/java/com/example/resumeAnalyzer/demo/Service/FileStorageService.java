@@ -5,25 +5,49 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 
 @Service
 public class FileStorageService {
+    private static final int MAX_NAME_LENGTH = 100;
+
     @Value("${app.upload-dir}") private String uploadDir;
 
-    public String saveFile(MultipartFile file) throws IOException {
+    /**
+     * Stores an upload as {@code <resumeId>_<basename>}. The id is unique, so two uploads never
+     * share a file; an existing file is never overwritten (FileAlreadyExistsException).
+     */
+    public String saveFile(MultipartFile file, long resumeId) throws IOException {
         Path path = Paths.get(uploadDir);
         if(!Files.exists(path)) Files.createDirectories(path);
 
-        String filename = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        Path filePath = path.resolve(filename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        Path filePath = path.resolve(resumeId + "_" + safeName(file.getOriginalFilename()));
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, filePath);
+        }
 
         return filePath.toString();
     }
 
+    public void delete(String storedPath) {
+        try {
+            Files.deleteIfExists(Path.of(storedPath));
+        } catch (IOException e) {
+            System.out.println("Could not delete " + storedPath + ": " + e.getMessage());
+        }
+    }
 
+    // Client-supplied names may carry directories ("../x", "C:\\x") or odd characters; keep a plain basename
+    static String safeName(String originalFilename) {
+        if (originalFilename == null) return "upload";
+        String name = originalFilename.substring(Math.max(originalFilename.lastIndexOf('/'),
+                originalFilename.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (name.length() > MAX_NAME_LENGTH) name = name.substring(name.length() - MAX_NAME_LENGTH);
+        if (name.isEmpty() || name.chars().allMatch(c -> c == '.')) return "upload";
+        return name;
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+import com.example.resumeAnalyzer.demo.Journal.JobJournal;
+import com.example.resumeAnalyzer.demo.Journal.JournalEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/** Replays uploads that were accepted but not finished when the JVM last stopped. */
+@Service
+@RequiredArgsConstructor
+public class JobRecoveryService {
+    private final JobJournal journal;
+    private final ResumeService resumeService;
+
+    @Value("${app.journal.recovery-workers:4}")
+    private int recoveryWorkers;
+
+    // A job whose replay failed (or crashed the JVM) this many times is marked failed for good
+    @Value("${app.journal.max-replay-attempts:3}")
+    private int maxReplayAttempts;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayIncompleteJobs() {
+        List<JournalEntry> jobs = journal.incompleteJobs();
+        if (jobs.isEmpty()) return;
+
+        System.out.println("Replaying " + jobs.size() + " incomplete upload(s) from the job journal");
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(recoveryWorkers, jobs.size()));
+        for (JournalEntry job : jobs) {
+            workers.execute(() -> replay(job));
+        }
+        workers.shutdown();
+    }
+
+    private void replay(JournalEntry job) {
+        if (!Files.exists(Path.of(job.storedPath()))) {
+            System.out.println("Job " + job.jobId() + ": stored file " + job.storedPath() + " is gone, giving up");
+            journal.failed(job.jobId());
+            return;
+        }
+        int attempts = journal.replayAttempts(job.jobId());
+        if (attempts >= maxReplayAttempts) {
+            System.out.println("Job " + job.jobId() + ": replay failed " + attempts + " times, giving up");
+            journal.failed(job.jobId());
+            return;
+        }
+        try {
+            journal.replayAttempt(job.jobId()).join();
+            resumeService.reprocess(job);
+            System.out.println("Job " + job.jobId() + " recovered");
+        } catch (Exception e) {
+            // Left incomplete in the journal, so it is retried on the next start (up to the attempt limit)
+            System.out.println("Job " + job.jobId() + " replay failed: " + e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.resumeAnalyzer.demo.Service;
 
+import com.example.resumeAnalyzer.demo.Tenancy.TenantRegistry;
 import com.example.resumeAnalyzer.demo.dto.ParseResultDto;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.ByteArrayResource;
@@ -9,24 +11,41 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import javax.swing.plaf.multi.MultiPanelUI;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.springframework.http.HttpHeaders;
 
 @Service
 public class ParserClient {
     @Value("${app.parser-url}") private String parseUrl;
 
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
     private final RestTemplate restTemplate = new RestTemplate();
 
     public ParseResultDto parse(MultipartFile file) throws IOException {
+        return parse(file.getBytes(), file.getOriginalFilename());
+    }
+
+    // Parses the stored copy of an upload (new uploads and journal replay alike)
+    public ParseResultDto parse(Path storedFile, String originalFilename) throws IOException {
+        return parse(Files.readAllBytes(storedFile), originalFilename);
+    }
+
+    // Holds one of the current tenant's parser slots for the duration of the call
+    private ParseResultDto parse(byte[] content, String filename) throws IOException {
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        ByteArrayResource fileResource = new ByteArrayResource(file.getBytes()){
+        ByteArrayResource fileResource = new ByteArrayResource(content){
             @Override public String getFilename() {
-                return file.getOriginalFilename();
+                return filename;
             }
             };
         body.add("file", fileResource);
@@ -34,6 +53,15 @@ public class ParserClient {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
         HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(body, headers);
-        return restTemplate.postForObject(parseUrl, request, ParseResultDto.class);
+        try (TenantRegistry.ParserSlot ignored = tenantRegistry.acquireParserSlot()) {
+            return restTemplate.postForObject(parseUrl, request, ParseResultDto.class);
+        } catch (HttpClientErrorException e) {
+            // The parser refusing the document is the client's problem, not a server error
+            if (e.getStatusCode().value() == 413 || e.getStatusCode().value() == 415) {
+                throw new ResponseStatusException(e.getStatusCode(), "Parser rejected the resume: "
+                        + e.getResponseBodyAsString());
+            }
+            throw e;
+        }
     }
 }
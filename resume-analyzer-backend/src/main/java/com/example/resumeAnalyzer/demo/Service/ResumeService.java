@@ -1,14 +1,26 @@
 package com.example.resumeAnalyzer.demo.Service;
 
+import com.example.resumeAnalyzer.demo.Analytics.AnalyticsRollupService;
+import com.example.resumeAnalyzer.demo.Journal.JobJournal;
+import com.example.resumeAnalyzer.demo.Journal.JournalEntry;
+import com.example.resumeAnalyzer.demo.Profiling.StageProfiler;
+import com.example.resumeAnalyzer.demo.Tenancy.TenantAnalysisStore;
+import com.example.resumeAnalyzer.demo.Tenancy.TenantContext;
 import com.example.resumeAnalyzer.demo.dto.AnalysisResponseDto;
 import com.example.resumeAnalyzer.demo.dto.ParseResultDto;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Service
@@ -17,21 +29,123 @@ public class ResumeService {
     private final FileStorageService fileStorageService;
     private final ParserClient parserClient;
     private final AnalysisService analysisService;
+    private final StageProfiler profiler;
+    private final JobJournal journal;
+    private final AnalyticsRollupService analytics;
+    private final TenantAnalysisStore analysisStore;
+
+    @Value("${app.ingestion.max-bytes:10485760}")
+    private long maxUploadBytes;
 
     private final AtomicLong idCounter = new AtomicLong(1);
-    private final Map<Long, AnalysisResponseDto> memoryDb = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void continueIdsAfterJournal() {
+        // Replayed jobs keep their ids, so new uploads must start past them
+        idCounter.set(journal.maxJobId() + 1);
+    }
 
     public AnalysisResponseDto handleUploadAndAnalyze(MultipartFile file, String jd) throws IOException {
-        Long resumeId = idCounter.getAndIncrement();
-        fileStorageService.saveFile(file);
-        ParseResultDto parsed = parserClient.parse(file);
-        AnalysisResponseDto result = analysisService.analyze(parsed, jd, resumeId);
-        memoryDb.put(resumeId, result);
+        return handleUploadAndAnalyze(file, jd, AnalysisProgressListener.NONE);
+    }
+
+    public AnalysisResponseDto handleUploadAndAnalyze(MultipartFile file, String jd,
+                                                      AnalysisProgressListener listener) throws IOException {
+        JournalEntry job = accept(file, jd, TenantContext.current());
+        listener.onStage("stored", Map.of("resumeId", job.jobId()));
+        return process(job, listener);
+    }
+
+    /**
+     * Validates, stores and journals an upload, returning once the job is durable. Must run on
+     * the request thread: the multipart parts are deleted when the request ends.
+     */
+    public JournalEntry accept(MultipartFile file, String jd, String tenant) throws IOException {
+        checkIngestible(file);
+
+        long resumeId = idCounter.getAndIncrement();
+        try (StageProfiler.Stage ignored = profiler.stage("store")) {
+            String storedPath = fileStorageService.saveFile(file, resumeId);
+            JournalEntry job = new JournalEntry(resumeId, storedPath, file.getOriginalFilename(), jd, tenant);
+            // Wait until the job is durable, so a crash from here on is recovered on restart
+            journal.accepted(job).join();
+            return job;
+        } catch (CompletionException e) {
+            throw new IOException("Could not journal upload " + resumeId, e.getCause());
+        }
+    }
+
+    /** Parses and analyses an accepted upload from its stored copy. A failure is final, not replayed. */
+    public AnalysisResponseDto process(JournalEntry job, AnalysisProgressListener listener) throws IOException {
+        try {
+            return analyzeStored(job, listener);
+        } catch (IOException | RuntimeException e) {
+            // The client saw this failure, so it is not replayed
+            journal.failed(job.jobId());
+            throw e;
+        }
+    }
+
+    /** Gives up on an accepted upload that will never be processed, e.g. its stream timed out while queued. */
+    public void abandon(JournalEntry job) {
+        journal.failed(job.jobId());
+        // Rejected uploads are stored first, so a flood of 429s must not fill the disk
+        fileStorageService.delete(job.storedPath());
+    }
+
+    // Reject oversized or unsupported uploads before they are stored, journaled or sent to the parser
+    private void checkIngestible(MultipartFile file) throws IOException {
+        if (file.getSize() > maxUploadBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Resume exceeds " + maxUploadBytes + " bytes");
+        }
+        DocumentFormat format;
+        try (InputStream in = file.getInputStream()) {
+            format = DocumentFormat.detect(in);
+        }
+        if (format == DocumentFormat.UNKNOWN) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    "Unsupported resume format, upload a PDF, DOCX or plain text file");
+        }
+    }
+
+    /**
+     * Re-runs a journaled upload from its stored file. Safe to run more than once for the same
+     * job: the result is written under the job's original id, replacing any earlier copy.
+     */
+    public void reprocess(JournalEntry entry) throws IOException {
+        TenantContext.set(tenantOf(entry));
+        try {
+            analyzeStored(entry, AnalysisProgressListener.NONE);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private AnalysisResponseDto analyzeStored(JournalEntry job, AnalysisProgressListener listener) throws IOException {
+        ParseResultDto parsed;
+        try (StageProfiler.Stage ignored = profiler.stage("parse")) {
+            parsed = parserClient.parse(Path.of(job.storedPath()), job.originalFilename());
+        }
+        listener.onStage("parsed", parsed);
+
+        AnalysisResponseDto result = analysisService.analyze(parsed, job.jobDescription(), job.jobId(), listener);
+        analysisStore.put(tenantOf(job), job.jobId(), result);
+        // Counted only once the completion is durable, so a job replayed after a crash is never counted twice
+        journal.completed(job.jobId()).thenRun(() -> analytics.record(result.jobFamily, result));
         return result;
     }
 
+    private static String tenantOf(JournalEntry job) {
+        return job.tenant() != null ? job.tenant() : TenantContext.DEFAULT_TENANT;
+    }
+
     public AnalysisResponseDto getAnalysisByResumeId(Long id) {
-        return memoryDb.get(id);
+        return getAnalysisByResumeId(TenantContext.DEFAULT_TENANT, id);
+    }
+
+    public AnalysisResponseDto getAnalysisByResumeId(String tenant, Long id) {
+        return analysisStore.get(tenant, id);
     }
 }
 
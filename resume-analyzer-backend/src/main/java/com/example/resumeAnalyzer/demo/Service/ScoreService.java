@@ -1,6 +1,12 @@
 package com.example.resumeAnalyzer.demo.Service;
 
+import com.example.resumeAnalyzer.demo.Scoring.ScoringEngine;
+import com.example.resumeAnalyzer.demo.Scoring.ScoringFeature;
+import com.example.resumeAnalyzer.demo.Scoring.ScoringMode;
 import com.example.resumeAnalyzer.demo.dto.ParseResultDto;
+import com.example.resumeAnalyzer.demo.dto.SectionIndex.Section;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -10,6 +16,9 @@ import java.util.regex.Pattern;
 @Component
 public class ScoreService {
 
+    @Autowired
+    private ScoringEngine scoringEngine;
+
     // Market demand scores for different skills
     private static final Map<String, Integer> SKILL_MARKET_DEMAND = Map.ofEntries(
             Map.entry("Spring Boot", 95),
@@ -31,33 +40,69 @@ public class ScoreService {
             Map.entry("PostgreSQL", 82)
     );
 
+    // Compiled once; these run on every scored resume
+    private static final Pattern[] EXPERIENCE_YEAR_PATTERNS = {
+            Pattern.compile("(\\d+)\\+?\\s*years?\\s*(of\\s*)?experience"),
+            Pattern.compile("(\\d+)\\+?\\s*yrs?\\s*(of\\s*)?experience"),
+            Pattern.compile("experience.*?(\\d+)\\+?\\s*years?"),
+            Pattern.compile("(\\d+)\\+?\\s*years?.*?experience")
+    };
+
+    private static final Set<String> PROFESSIONAL_TERMS = Set.of(
+            "responsible", "experience", "skills", "projects", "achievements",
+            "accomplished", "proficient", "expertise", "collaborated"
+    );
+
+    // Single words only, the text is matched word by word
+    private static final Set<String> CASUAL_TERMS = Set.of(
+            "stuff", "things", "cool", "awesome", "guys"
+    );
+
+    // Weight of a fully similar (but not exactly matched) skill relative to an exact match
+    @Value("${app.skill-similarity.weight:0.5}") private double similarityWeight;
+
     public Integer calculateAdvancedScore(Set<String> matchedSkills, Set<String> jdSkills,
                                                  ParseResultDto parse) {
-        double skillScore = calculateSkillMatchScore(matchedSkills, jdSkills);
-        double experienceScore = calculateExperienceScore(parse);
-        double contentQualityScore = calculateContentQualityScore(parse);
+        return calculateAdvancedScore(matchedSkills, jdSkills, Collections.emptyMap(), parse);
+    }
 
-        // Weighted scoring: Skills(50%) + Experience(30%) + Content Quality(20%)
-        double finalScore = (skillScore * 0.5) + (experienceScore * 0.3) + (contentQualityScore * 0.2);
+    public Integer calculateAdvancedScore(Set<String> matchedSkills, Set<String> jdSkills,
+                                          Map<String, Double> partialMatches, ParseResultDto parse) {
+        double[] features = extractFeatures(parse);
+        features[ScoringFeature.SKILL_MATCH.ordinal()] = calculateSkillMatchScore(matchedSkills, jdSkills, partialMatches);
 
-        return Math.min(100, (int) Math.round(finalScore));
+        // Weights come from the configured scoring model (baseline: Skills 50%, Experience 30%, Content 20%)
+        return scoringEngine.score(ScoringMode.JOB_MATCH, features);
     }
 
     public Integer calculateResumeQualityScore(ParseResultDto parse) {
-        double structureScore = calculateStructureScore(parse);
-        double skillDiversityScore = calculateSkillDiversityScore(parse);
-        double contentRichnessScore = calculateContentRichnessScore(parse);
-
-        double finalScore = (structureScore * 0.4) + (skillDiversityScore * 0.3) +
-                (contentRichnessScore * 0.3);
+        // Baseline: Structure 40%, Skill Diversity 30%, Content Richness 30%
+        return scoringEngine.score(ScoringMode.RESUME_QUALITY, extractFeatures(parse));
+    }
 
-        return (int) Math.round(finalScore);
+    // Every sub-score is computed once so any model (including shadow ones) can weight any of them
+    private double[] extractFeatures(ParseResultDto parse) {
+        double[] features = new double[ScoringFeature.COUNT];
+        double contentRichness = calculateContentRichnessScore(parse);
+
+        features[ScoringFeature.EXPERIENCE.ordinal()] = calculateExperienceScore(parse);
+        features[ScoringFeature.CONTENT_QUALITY.ordinal()] = contentRichness;
+        features[ScoringFeature.STRUCTURE.ordinal()] = calculateStructureScore(parse);
+        features[ScoringFeature.SKILL_DIVERSITY.ordinal()] = calculateSkillDiversityScore(parse);
+        features[ScoringFeature.CONTENT_RICHNESS.ordinal()] = contentRichness;
+        return features;
     }
 
-    private double calculateSkillMatchScore(Set<String> matched, Set<String> required) {
+    private double calculateSkillMatchScore(Set<String> matched, Set<String> required,
+                                            Map<String, Double> partialMatches) {
         if (required.isEmpty()) return 80.0;
 
-        double basicMatch = (double) matched.size() / required.size() * 100;
+        // Similar skills count as a fraction of an exact match
+        double partialCredit = partialMatches.values().stream()
+                .mapToDouble(Double::doubleValue)
+                .sum() * similarityWeight;
+
+        double basicMatch = (matched.size() + partialCredit) / required.size() * 100;
 
         // Bonus for high-demand skills
         double demandBonus = matched.stream()
@@ -71,12 +116,13 @@ public class ScoreService {
     private double calculateExperienceScore(ParseResultDto parse) {
         if (parse.experience == null || parse.experience.isEmpty()) return 20.0;
 
-        // Analyze experience depth and relevance
-        int experienceYears = extractExperienceYears(parse.rawText);
+        // Analyze experience depth and relevance, looking only at the experience section
+        String experienceText = parse.lowerSection(Section.EXPERIENCE);
+        int experienceYears = extractExperienceYears(experienceText);
         double experienceScore = Math.min(100.0, experienceYears * 10);
 
         // Bonus for progression and achievements
-        if (hasCareerProgression(parse.rawText)) {
+        if (hasCareerProgression(experienceText)) {
             experienceScore += 15;
         }
 
@@ -127,9 +173,10 @@ public class ScoreService {
         double score = 0.0;
         double maxScore = 30.0;
         String rawText = parse.rawText;
+        String lowerText = parse.lowerText();
 
         // Word count analysis (10 points)
-        int wordCount = rawText.split("\\s+").length;
+        int wordCount = parse.wordCount();
         if (wordCount >= 200 && wordCount <= 600) {
             score += 10.0;
         } else if (wordCount > 100) {
@@ -138,31 +185,16 @@ public class ScoreService {
 
         // Content quality indicators (20 points)
         if (hasQuantifiableAchievements(rawText)) score += 8.0;
-        if (hasActionVerbs(rawText)) score += 6.0;
-        if (hasProfessionalTone(rawText)) score += 4.0;
-        if (!containsPersonalPronouns(rawText)) score += 2.0;
+        if (hasActionVerbs(lowerText)) score += 6.0;
+        if (hasProfessionalTone(lowerText)) score += 4.0;
+        if (!containsPersonalPronouns(parse.lowerSection(Section.SUMMARY, Section.EXPERIENCE))) score += 2.0;
 
         return Math.min(maxScore, score);
     }
 
-    private double calculateContentQualityScore(ParseResultDto parse) {
-        // Reuse the content richness calculation
-        return calculateContentRichnessScore(parse);
-    }
-
-    private int extractExperienceYears(String rawText) {
+    private int extractExperienceYears(String lowerText) {
         // Extract years of experience from text using regex patterns
-        String[] patterns = {
-                "(\\d+)\\+?\\s*years?\\s*(of\\s*)?experience",
-                "(\\d+)\\+?\\s*yrs?\\s*(of\\s*)?experience",
-                "experience.*?(\\d+)\\+?\\s*years?",
-                "(\\d+)\\+?\\s*years?.*?experience"
-        };
-
-        String lowerText = rawText.toLowerCase();
-
-        for (String patternStr : patterns) {
-            Pattern pattern = Pattern.compile(patternStr);
+        for (Pattern pattern : EXPERIENCE_YEAR_PATTERNS) {
             Matcher matcher = pattern.matcher(lowerText);
             if (matcher.find()) {
                 try {
@@ -177,9 +209,7 @@ public class ScoreService {
         return 0; // Default if no experience years found
     }
 
-    private boolean hasCareerProgression(String rawText) {
-        String lowerText = rawText.toLowerCase();
-
+    private boolean hasCareerProgression(String lowerText) {
         // Look for progression indicators
         String[] progressionKeywords = {
                 "promoted", "promotion", "advanced", "led", "managed", "senior",
@@ -219,55 +249,34 @@ public class ScoreService {
                 .anyMatch(pattern -> text.matches(".*" + pattern + ".*"));
     }
 
-    private boolean hasActionVerbs(String text) {
+    private boolean hasActionVerbs(String lowerText) {
         String[] actionVerbs = {
                 "developed", "implemented", "created", "led", "managed", "built",
                 "designed", "optimized", "improved", "achieved", "delivered",
                 "established", "launched", "coordinated", "executed", "maintained"
         };
 
-        String lowerText = text.toLowerCase();
         return Arrays.stream(actionVerbs)
                 .anyMatch(lowerText::contains);
     }
 
-    private boolean hasProfessionalTone(String text) {
-        String[] professionalTerms = {
-                "responsible", "experience", "skills", "projects", "achievements",
-                "accomplished", "proficient", "expertise", "collaborated"
-        };
-
-        String[] casualTerms = {
-                "stuff", "things", "cool", "awesome", "guys", "pretty good"
-        };
-
-        String lowerText = text.toLowerCase();
-
-        long professionalCount = Arrays.stream(professionalTerms)
-                .mapToLong(term -> countOccurrences(lowerText, term))
-                .sum();
-
-        long casualCount = Arrays.stream(casualTerms)
-                .mapToLong(term -> countOccurrences(lowerText, term))
-                .sum();
+    private boolean hasProfessionalTone(String lowerText) {
+        // Split the text once and count every term in a single pass
+        long professionalCount = 0;
+        long casualCount = 0;
+        for (String word : lowerText.split("\\s+")) {
+            if (PROFESSIONAL_TERMS.contains(word)) professionalCount++;
+            else if (CASUAL_TERMS.contains(word)) casualCount++;
+        }
 
         return professionalCount > casualCount;
     }
 
-    private boolean containsPersonalPronouns(String text) {
+    private boolean containsPersonalPronouns(String lowerText) {
         String[] pronouns = {" i ", " me ", " my ", " mine ", " myself "};
-        String lowerText = " " + text.toLowerCase() + " ";
+        String padded = " " + lowerText + " ";
 
         return Arrays.stream(pronouns)
-                .anyMatch(lowerText::contains);
-    }
-
-    private long countOccurrences(String text, String word) {
-        if (text == null || word == null || word.isEmpty()) return 0;
-
-        String[] words = text.split("\\s+");
-        return Arrays.stream(words)
-                .mapToLong(w -> w.equalsIgnoreCase(word) ? 1 : 0)
-                .sum();
+                .anyMatch(padded::contains);
     }
 }
@@ -0,0 +1,163 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+@Service
+public class SkillSimilarityService {
+    @Value("${app.skill-similarity.enabled:false}") private boolean enabled;
+    @Value("${app.skill-similarity.vectors:classpath:skill-vectors.tsv}") private Resource vectorsFile;
+    @Value("${app.skill-similarity.min-similarity:0.8}") private double minSimilarity;
+    @Value("${app.skill-similarity.max-pairs:1024}") private int maxPairs;
+
+    // All skill vectors live in one row-major matrix, one unit-length row per canonical skill
+    private float[] matrix = new float[0];
+    private int dim;
+    private final Map<String, Integer> rowByAlias = new HashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        if (!enabled || !vectorsFile.exists()) return;
+
+        List<float[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(vectorsFile.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+
+                String[] cols = line.split("\t");
+                if (cols.length != 3) {
+                    throw new IllegalStateException("Malformed skill vector line: " + line);
+                }
+                String[] values = cols[2].trim().split("\\s+");
+                if (dim == 0) dim = values.length;
+                if (values.length != dim) {
+                    throw new IllegalStateException("Skill vector for " + cols[0] + " has " + values.length
+                            + " dimensions, expected " + dim);
+                }
+
+                float[] row = new float[dim];
+                for (int i = 0; i < dim; i++) row[i] = Float.parseFloat(values[i]);
+                int rowIndex = rows.size();
+                rows.add(normalizeVector(row));
+
+                rowByAlias.put(normalizeKey(cols[0]), rowIndex);
+                for (String alias : cols[1].split(",")) {
+                    rowByAlias.putIfAbsent(normalizeKey(alias), rowIndex);
+                }
+            }
+        }
+
+        matrix = new float[rows.size() * dim];
+        for (int r = 0; r < rows.size(); r++) {
+            System.arraycopy(rows.get(r), 0, matrix, r * dim, dim);
+        }
+        System.out.println("Loaded " + rows.size() + " skill vectors (" + dim + " dims)");
+    }
+
+    public boolean isEnabled() {
+        return enabled && matrix.length > 0;
+    }
+
+    /**
+     * JD skills that the resume names through another alias of the same canonical skill
+     * (k8s for Kubernetes). These are exact matches, not near misses.
+     */
+    public Set<String> aliasMatches(Set<String> resumeSkills, Set<String> missingJdSkills) {
+        if (!isEnabled() || resumeSkills.isEmpty() || missingJdSkills.isEmpty()) return Collections.emptySet();
+
+        Set<Integer> resumeRows = new HashSet<>();
+        for (int row : resolveRows(resumeSkills)) resumeRows.add(row);
+
+        Set<String> matches = new HashSet<>();
+        for (String jdSkill : missingJdSkills) {
+            Integer jdRow = rowByAlias.get(normalizeKey(jdSkill));
+            if (jdRow != null && resumeRows.contains(jdRow)) matches.add(jdSkill);
+        }
+        return matches;
+    }
+
+    /**
+     * Partial credit for JD skills that were not matched exactly: each missing skill earns its best
+     * cosine similarity against the resume skills, if that similarity clears the threshold.
+     */
+    public Map<String, Double> partialMatches(Set<String> resumeSkills, Set<String> missingJdSkills) {
+        if (!isEnabled() || resumeSkills.isEmpty() || missingJdSkills.isEmpty()) return Collections.emptyMap();
+
+        int[] resumeRows = resolveRows(resumeSkills);
+        if (resumeRows.length == 0) return Collections.emptyMap();
+
+        // Cap the pairs evaluated so a pathological skill list cannot blow the latency budget
+        int pairBudget = maxPairs;
+        Map<String, Double> credits = new HashMap<>();
+        for (String jdSkill : missingJdSkills) {
+            Integer jdRow = rowByAlias.get(normalizeKey(jdSkill));
+            if (jdRow == null) continue;
+
+            float best = 0f;
+            for (int resumeRow : resumeRows) {
+                // Same canonical skill is an exact match, handled by aliasMatches
+                if (resumeRow == jdRow) continue;
+                if (pairBudget-- <= 0) return credits;
+                best = Math.max(best, dot(jdRow, resumeRow));
+            }
+            if (best >= minSimilarity) {
+                credits.put(jdSkill, (double) best);
+            }
+        }
+        return credits;
+    }
+
+    private int[] resolveRows(Set<String> skills) {
+        return skills.stream()
+                .map(skill -> rowByAlias.get(normalizeKey(skill)))
+                .filter(Objects::nonNull)
+                .distinct()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // Four independent accumulators keep the loop free of a serial dependency so the JIT can pipeline it
+    private float dot(int rowA, int rowB) {
+        int a = rowA * dim;
+        int b = rowB * dim;
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        for (; i + 3 < dim; i += 4) {
+            s0 += matrix[a + i] * matrix[b + i];
+            s1 += matrix[a + i + 1] * matrix[b + i + 1];
+            s2 += matrix[a + i + 2] * matrix[b + i + 2];
+            s3 += matrix[a + i + 3] * matrix[b + i + 3];
+        }
+        for (; i < dim; i++) {
+            s0 += matrix[a + i] * matrix[b + i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    private static float[] normalizeVector(float[] row) {
+        double norm = 0;
+        for (float v : row) norm += v * v;
+        norm = Math.sqrt(norm);
+        if (norm == 0) return row;
+        for (int i = 0; i < row.length; i++) row[i] = (float) (row[i] / norm);
+        return row;
+    }
+
+    // Same folding as AnalysisService.normalizeSkillName so parser skills and canonical names meet
+    private static String normalizeKey(String skill) {
+        return skill.toLowerCase()
+                .trim()
+                .replaceAll("[^a-zA-Z0-9\\s]", "")
+                .replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.resumeAnalyzer.demo.Tenancy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram in microseconds: four sub-buckets per power of two, so a
+ * reported percentile is within about 25% of the true value. Percentiles report bucket upper bounds.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKETS = 4;
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+
+    void record(long micros) {
+        counts.incrementAndGet(index(Math.max(1, micros)));
+    }
+
+    long percentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) total += counts.get(i);
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return upperBound(i);
+        }
+        return upperBound(counts.length() - 1);
+    }
+
+    Map<String, Object> summary() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) count += counts.get(i);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("p50Ms", percentile(50) / 1000.0);
+        summary.put("p90Ms", percentile(90) / 1000.0);
+        summary.put("p99Ms", percentile(99) / 1000.0);
+        return summary;
+    }
+
+    private static int index(long value) {
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = exponent < 2 ? 0 : (int) ((value >>> (exponent - 2)) & (SUB_BUCKETS - 1));
+        return exponent * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        int exponent = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (exponent < 2) return (1L << (exponent + 1)) - 1;
+        return ((SUB_BUCKETS + sub + 1L) << (exponent - 2)) - 1;
+    }
+}
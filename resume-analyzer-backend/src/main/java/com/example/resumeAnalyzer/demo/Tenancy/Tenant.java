@@ -0,0 +1,42 @@
+package com.example.resumeAnalyzer.demo.Tenancy;
+
+import com.example.resumeAnalyzer.demo.Config.TenancyProperties;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Semaphore;
+
+/** One tenant's limits, metrics and scheduling state. */
+public class Tenant {
+    private final String id;
+    private final TenancyProperties.Limits limits;
+    private final TenantMetrics metrics = new TenantMetrics();
+    final Semaphore parserSlots;
+
+    // Weighted fair queuing state, guarded by the scheduler's lock
+    final ArrayDeque<TenantScheduler.ScheduledTask> queue = new ArrayDeque<>();
+    double lastFinish;
+    int running;
+
+    Tenant(String id, TenancyProperties.Limits limits) {
+        this.id = id;
+        this.limits = limits;
+        this.parserSlots = new Semaphore(Math.max(1, limits.getParserConcurrency()), true);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public TenancyProperties.Limits limits() {
+        return limits;
+    }
+
+    /** Tasks the scheduler may run at once: never more than the tenant's parser share. */
+    int maxRunning() {
+        return Math.max(1, Math.min(limits.getMaxConcurrency(), limits.getParserConcurrency()));
+    }
+
+    public TenantMetrics metrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.resumeAnalyzer.demo.Tenancy;
+
+import com.example.resumeAnalyzer.demo.dto.AnalysisResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Completed analyses, kept per tenant. With tenancy on, each tenant's analyses are held to its
+ * max-stored-bytes and the oldest are dropped first, so one tenant cannot fill the heap for all.
+ * This partitions memory, not access: the tenant id comes from an unauthenticated header and
+ * resume ids are global, so it is no barrier against a caller naming another tenant.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantAnalysisStore {
+    private final TenantRegistry registry;
+    private final Map<String, Shelf> shelves = new ConcurrentHashMap<>();
+
+    public void put(String tenantId, Long resumeId, AnalysisResponseDto analysis) {
+        Tenant tenant = registry.tenant(tenantId);
+        long quota = registry.isEnabled() ? tenant.limits().getMaxStoredBytes() : Long.MAX_VALUE;
+        shelves.computeIfAbsent(tenantId, id -> new Shelf()).put(resumeId, analysis, quota, tenant.metrics());
+    }
+
+    public AnalysisResponseDto get(String tenantId, Long resumeId) {
+        Shelf shelf = shelves.get(tenantId);
+        return shelf == null ? null : shelf.get(resumeId);
+    }
+
+    // Rough retained size of an analysis; dominated by the resume text
+    static long estimateBytes(AnalysisResponseDto analysis) {
+        long bytes = 256;
+        if (analysis.parserResult != null) {
+            // rawText plus its memoized lowercase copy
+            if (analysis.parserResult.rawText != null) bytes += 48 + 4L * analysis.parserResult.rawText.length();
+            bytes += listBytes(analysis.parserResult.skills) + listBytes(analysis.parserResult.emails)
+                    + listBytes(analysis.parserResult.phones) + listBytes(analysis.parserResult.education)
+                    + listBytes(analysis.parserResult.experience);
+        }
+        return bytes + listBytes(analysis.skillsMatched) + listBytes(analysis.skillsMissing)
+                + listBytes(analysis.recommendations);
+    }
+
+    private static long listBytes(List<String> values) {
+        if (values == null) return 0;
+        long bytes = 32;
+        for (String value : values) bytes += 56 + 2L * value.length();
+        return bytes;
+    }
+
+    private static class Shelf {
+        private final LinkedHashMap<Long, Stored> analyses = new LinkedHashMap<>();
+        private long bytes;
+
+        synchronized void put(Long resumeId, AnalysisResponseDto analysis, long quota, TenantMetrics metrics) {
+            long size = estimateBytes(analysis);
+            Stored previous = analyses.put(resumeId, new Stored(analysis, size));
+            if (previous != null) bytes -= previous.bytes;
+            bytes += size;
+
+            // Oldest first; the analysis just stored is kept even if it alone exceeds the quota
+            Iterator<Map.Entry<Long, Stored>> oldest = analyses.entrySet().iterator();
+            while (bytes > quota && oldest.hasNext()) {
+                Map.Entry<Long, Stored> evicted = oldest.next();
+                if (evicted.getKey().equals(resumeId)) continue;
+                oldest.remove();
+                bytes -= evicted.getValue().bytes;
+                metrics.evictedAnalyses.increment();
+            }
+            metrics.storedBytes.set(bytes);
+            metrics.storedAnalyses.set(analyses.size());
+        }
+
+        synchronized AnalysisResponseDto get(Long resumeId) {
+            Stored stored = analyses.get(resumeId);
+            return stored == null ? null : stored.analysis;
+        }
+    }
+
+    private record Stored(AnalysisResponseDto analysis, long bytes) {
+    }
+}
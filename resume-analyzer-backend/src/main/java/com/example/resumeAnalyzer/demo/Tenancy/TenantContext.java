@@ -0,0 +1,24 @@
+package com.example.resumeAnalyzer.demo.Tenancy;
+
+/** Tenant of the work running on the current thread, set by the tenant workers and journal replay. */
+public final class TenantContext {
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    public static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.resumeAnalyzer.demo.Tenancy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Per-tenant counters and latency distributions, reported by GET /api/admin/tenants. */
+public class TenantMetrics {
+    final LongAdder submitted = new LongAdder();
+    final LongAdder rejected = new LongAdder();
+    final LongAdder completed = new LongAdder();
+    final LongAdder failed = new LongAdder();
+    final AtomicInteger queued = new AtomicInteger();
+    final AtomicInteger running = new AtomicInteger();
+
+    // Enqueue to start, and enqueue to finish
+    final LatencyHistogram queueWait = new LatencyHistogram();
+    final LatencyHistogram latency = new LatencyHistogram();
+    final LatencyHistogram parserWait = new LatencyHistogram();
+
+    final AtomicLong storedBytes = new AtomicLong();
+    final AtomicInteger storedAnalyses = new AtomicInteger();
+    final LongAdder evictedAnalyses = new LongAdder();
+
+    Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("submitted", submitted.sum());
+        snapshot.put("rejected", rejected.sum());
+        snapshot.put("completed", completed.sum());
+        snapshot.put("failed", failed.sum());
+        snapshot.put("queued", queued.get());
+        snapshot.put("running", running.get());
+        snapshot.put("queueWait", queueWait.summary());
+        snapshot.put("latency", latency.summary());
+        snapshot.put("parserWait", parserWait.summary());
+        snapshot.put("storedAnalyses", storedAnalyses.get());
+        snapshot.put("storedBytes", storedBytes.get());
+        snapshot.put("evictedAnalyses", evictedAnalyses.sum());
+        return snapshot;
+    }
+}
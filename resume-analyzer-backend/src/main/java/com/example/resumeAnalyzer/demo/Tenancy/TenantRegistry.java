@@ -0,0 +1,100 @@
+package com.example.resumeAnalyzer.demo.Tenancy;
+
+import com.example.resumeAnalyzer.demo.Config.TenancyProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+
+/** Known tenants and their shares of the parser. */
+@Component
+@RequiredArgsConstructor
+public class TenantRegistry {
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final TenancyProperties properties;
+    private final Map<String, Tenant> tenants = new ConcurrentHashMap<>();
+    private Semaphore parserSlots;
+
+    @PostConstruct
+    void init() {
+        parserSlots = new Semaphore(Math.max(1, properties.getParserConcurrency()), true);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Tenant id for a request header value; everything maps to the default tenant when tenancy is off.
+     * The header is taken on trust, so it must come from a gateway, never straight from clients.
+     */
+    public String resolve(String headerValue) {
+        if (!properties.isEnabled() || headerValue == null || headerValue.isBlank()) {
+            return TenantContext.DEFAULT_TENANT;
+        }
+        if (!TENANT_ID.matcher(headerValue).matches()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid tenant id");
+        }
+        if (!tenants.containsKey(headerValue) && !properties.getTenants().containsKey(headerValue)
+                && tenants.size() >= properties.getMaxTenants()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Unknown tenant " + headerValue);
+        }
+        return headerValue;
+    }
+
+    public Tenant tenant(String id) {
+        return tenants.computeIfAbsent(id,
+                key -> new Tenant(key, properties.getTenants().getOrDefault(key, properties.getDefaults())));
+    }
+
+    /**
+     * Waits for a parser slot for the current tenant: first its own share, then one of the
+     * global slots, so a tenant waiting on its share never holds a global slot.
+     */
+    public ParserSlot acquireParserSlot() throws IOException {
+        if (!properties.isEnabled()) return ParserSlot.NONE;
+
+        Tenant tenant = tenant(TenantContext.current());
+        long start = System.nanoTime();
+        try {
+            tenant.parserSlots.acquire();
+            try {
+                parserSlots.acquire();
+            } catch (InterruptedException e) {
+                tenant.parserSlots.release();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for a parser slot", e);
+        }
+        tenant.metrics().parserWait.record((System.nanoTime() - start) / 1000);
+        return () -> {
+            parserSlots.release();
+            tenant.parserSlots.release();
+        };
+    }
+
+    public Map<String, Map<String, Object>> report() {
+        Map<String, Map<String, Object>> report = new TreeMap<>();
+        tenants.forEach((id, tenant) -> report.put(id, tenant.metrics().snapshot()));
+        return report;
+    }
+
+    @FunctionalInterface
+    public interface ParserSlot extends AutoCloseable {
+        ParserSlot NONE = () -> { };
+
+        @Override
+        void close();
+    }
+}
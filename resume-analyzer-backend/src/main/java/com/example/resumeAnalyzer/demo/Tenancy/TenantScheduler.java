@@ -0,0 +1,185 @@
+package com.example.resumeAnalyzer.demo.Tenancy;
+
+import com.example.resumeAnalyzer.demo.Config.TenancyProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs tenant work on a shared pool of workers. Each tenant has its own bounded queue and
+ * concurrency cap, so a bulk upload fills only its own queue, and workers pick the next task by
+ * weighted fair queuing: every task gets a virtual finish time of
+ * max(virtual now, tenant's previous finish) + 1 / weight, and the smallest finish time runs first.
+ * A tenant that was idle starts at virtual now, so it is not penalised for the backlog of others.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantScheduler {
+    private final TenancyProperties properties;
+    private final TenantRegistry registry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ready = lock.newCondition();
+    // Tenants with queued tasks, guarded by lock
+    private final List<Tenant> backlogged = new ArrayList<>();
+    private double virtualTime;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) return;
+
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            Thread worker = new Thread(this::workLoop, "tenant-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        lock.lock();
+        try {
+            running = false;
+            ready.signalAll();
+            for (Tenant tenant : backlogged) {
+                tenant.queue.forEach(task -> task.result.completeExceptionally(
+                        new CancellationException("Shutting down")));
+                tenant.metrics().queued.addAndGet(-tenant.queue.size());
+                tenant.queue.clear();
+            }
+            backlogged.clear();
+        } finally {
+            lock.unlock();
+        }
+        for (Thread worker : workers) worker.join(5000);
+    }
+
+    /**
+     * Queues a task for the tenant; throws TaskRejectedException when its queue is full. A task
+     * that throws completes the future exceptionally and counts as failed in the tenant's metrics.
+     */
+    public <T> CompletableFuture<T> submit(String tenantId, TenantTask<T> task) {
+        Tenant tenant = registry.tenant(tenantId);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable body = () -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+
+        lock.lock();
+        try {
+            if (!running) {
+                throw new TaskRejectedException("Tenant scheduler is not running");
+            }
+            if (tenant.queue.size() >= tenant.limits().getQueueCapacity()) {
+                tenant.metrics().rejected.increment();
+                throw new TaskRejectedException("Queue for tenant " + tenantId + " is full");
+            }
+            double start = Math.max(virtualTime, tenant.lastFinish);
+            double finish = start + 1.0 / Math.max(0.001, tenant.limits().getWeight());
+            tenant.lastFinish = finish;
+
+            if (tenant.queue.isEmpty()) backlogged.add(tenant);
+            tenant.queue.add(new ScheduledTask(tenant, body, result, start, finish, System.nanoTime()));
+            tenant.metrics().submitted.increment();
+            tenant.metrics().queued.incrementAndGet();
+            ready.signal();
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    private void workLoop() {
+        while (running) {
+            ScheduledTask task;
+            try {
+                task = next();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task == null) return;
+
+            TenantMetrics metrics = task.tenant.metrics();
+            metrics.queued.decrementAndGet();
+            metrics.running.incrementAndGet();
+            metrics.queueWait.record((System.nanoTime() - task.enqueuedNanos) / 1000);
+
+            TenantContext.set(task.tenant.id());
+            try {
+                task.body.run();
+            } finally {
+                TenantContext.clear();
+                metrics.running.decrementAndGet();
+                metrics.latency.record((System.nanoTime() - task.enqueuedNanos) / 1000);
+                if (task.result.isCompletedExceptionally()) metrics.failed.increment();
+                else metrics.completed.increment();
+                finished(task.tenant);
+            }
+        }
+    }
+
+    // Smallest virtual finish time among tenants that are below their concurrency cap
+    private ScheduledTask next() throws InterruptedException {
+        lock.lock();
+        try {
+            while (running) {
+                ScheduledTask best = null;
+                for (Tenant tenant : backlogged) {
+                    if (tenant.running >= tenant.maxRunning()) continue;
+                    ScheduledTask head = tenant.queue.peek();
+                    if (best == null || head.finish < best.finish) best = head;
+                }
+                if (best != null) {
+                    Tenant tenant = best.tenant;
+                    tenant.queue.poll();
+                    if (tenant.queue.isEmpty()) backlogged.remove(tenant);
+                    tenant.running++;
+                    virtualTime = Math.max(virtualTime, best.start);
+                    return best;
+                }
+                ready.await();
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void finished(Tenant tenant) {
+        lock.lock();
+        try {
+            tenant.running--;
+            ready.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface TenantTask<T> {
+        T call() throws IOException;
+    }
+
+    record ScheduledTask(Tenant tenant, Runnable body, CompletableFuture<?> result,
+                         double start, double finish, long enqueuedNanos) {
+    }
+}
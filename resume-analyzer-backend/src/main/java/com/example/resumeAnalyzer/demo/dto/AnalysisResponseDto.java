@@ -1,5 +1,7 @@
 package com.example.resumeAnalyzer.demo.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 
 public class AnalysisResponseDto {
@@ -10,4 +12,7 @@ public class AnalysisResponseDto {
     public List<String> skillsMissing;
     public List<String> recommendations;
     public ParseResultDto parserResult;
+    // Job family the analysis ran against, for the analytics rollups; not part of the API
+    @JsonIgnore
+    public String jobFamily;
 }
@@ -1,6 +1,10 @@
 package com.example.resumeAnalyzer.demo.dto;
 
+import com.example.resumeAnalyzer.demo.dto.SectionIndex.Section;
+
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public class ParseResultDto {
     public String rawText;
@@ -9,4 +13,61 @@ public class ParseResultDto {
     public List<String> phones;
     public List<String> education;
     public List<String> experience;
+    // Ingestion details reported by the parser
+    public String format;
+    public Integer pages;
+    public Boolean truncated;
+
+    // Derived views of rawText, computed on first access and memoized
+    private SectionIndex sectionIndex;
+    private String lowerText;
+    private Integer wordCount;
+    private final Map<Section, String> lowerSections = new EnumMap<>(Section.class);
+
+    /** Section offsets into rawText, exposed to clients as "sections". */
+    public Map<Section, int[]> getSections() {
+        return sectionIndex().asMap();
+    }
+
+    public SectionIndex sectionIndex() {
+        if (sectionIndex == null) sectionIndex = SectionIndex.of(rawText);
+        return sectionIndex;
+    }
+
+    public String lowerText() {
+        if (lowerText == null) lowerText = rawText == null ? "" : rawText.toLowerCase();
+        return lowerText;
+    }
+
+    public int wordCount() {
+        if (wordCount == null) wordCount = rawText == null ? 0 : rawText.split("\\s+").length;
+        return wordCount;
+    }
+
+    /**
+     * Lowercased text of the given sections, joined. Falls back to the whole text when none of
+     * them were found, so resumes without recognisable headings are still analysed.
+     */
+    public String lowerSection(Section... sections) {
+        StringBuilder joined = null;
+        String single = null;
+        for (Section section : sections) {
+            String text = cachedLowerSection(section);
+            if (text == null) continue;
+            if (single == null) {
+                single = text;
+            } else {
+                if (joined == null) joined = new StringBuilder(single);
+                joined.append('\n').append(text);
+            }
+        }
+        if (joined != null) return joined.toString();
+        return single != null ? single : lowerText();
+    }
+
+    private String cachedLowerSection(Section section) {
+        if (!sectionIndex().has(section)) return null;
+        return lowerSections.computeIfAbsent(section,
+                s -> sectionIndex().slice(rawText, s).toLowerCase());
+    }
 }
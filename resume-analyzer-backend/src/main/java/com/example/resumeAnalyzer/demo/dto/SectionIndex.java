@@ -0,0 +1,104 @@
+package com.example.resumeAnalyzer.demo.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Character offsets of the well-known resume sections inside rawText.
+ * A section runs from the line after its heading to the next recognised heading.
+ */
+public class SectionIndex {
+
+    public enum Section { SUMMARY, EXPERIENCE, EDUCATION, SKILLS }
+
+    // Headings we recognise; OTHER_HEADINGS only terminate the previous section
+    private static final Map<Section, String[]> HEADINGS = Map.of(
+            Section.SUMMARY, new String[]{"summary", "profile", "about me", "objective", "professional summary"},
+            Section.EXPERIENCE, new String[]{"experience", "work experience", "professional experience",
+                    "employment", "employment history", "work history"},
+            Section.EDUCATION, new String[]{"education", "academic background", "qualifications"},
+            Section.SKILLS, new String[]{"skills", "technical skills", "core skills", "key skills", "technologies"}
+    );
+    private static final String[] OTHER_HEADINGS = {
+            "projects", "certifications", "achievements", "awards", "publications", "languages",
+            "interests", "hobbies", "references", "volunteering", "contact"
+    };
+    private static final int MAX_HEADING_LENGTH = 40;
+
+    private final Map<Section, int[]> offsets = new EnumMap<>(Section.class);
+
+    public static SectionIndex of(String rawText) {
+        SectionIndex index = new SectionIndex();
+        if (rawText == null || rawText.isEmpty()) return index;
+
+        Section open = null;
+        int openStart = 0;
+        int lineStart = 0;
+        int length = rawText.length();
+
+        while (lineStart < length) {
+            int lineEnd = rawText.indexOf('\n', lineStart);
+            if (lineEnd < 0) lineEnd = length;
+
+            String heading = headingOf(rawText, lineStart, lineEnd);
+            if (heading != null) {
+                if (open != null) index.offsets.putIfAbsent(open, new int[]{openStart, lineStart});
+                open = sectionFor(heading);
+                openStart = Math.min(length, lineEnd + 1);
+            }
+            lineStart = lineEnd + 1;
+        }
+        if (open != null) index.offsets.putIfAbsent(open, new int[]{openStart, length});
+
+        return index;
+    }
+
+    public boolean has(Section section) {
+        return offsets.containsKey(section);
+    }
+
+    /** Returns {start, end} offsets into rawText, or null if the section was not found. */
+    public int[] offsets(Section section) {
+        int[] range = offsets.get(section);
+        return range == null ? null : range.clone();
+    }
+
+    public String slice(String rawText, Section section) {
+        int[] range = offsets.get(section);
+        return range == null ? null : rawText.substring(range[0], range[1]);
+    }
+
+    public Map<Section, int[]> asMap() {
+        Map<Section, int[]> copy = new EnumMap<>(Section.class);
+        offsets.forEach((section, range) -> copy.put(section, range.clone()));
+        return copy;
+    }
+
+    // Returns the normalised heading text if the line looks like a heading, otherwise null
+    private static String headingOf(String text, int start, int end) {
+        if (end - start > MAX_HEADING_LENGTH) return null;
+
+        String line = text.substring(start, end).trim().toLowerCase();
+        if (line.endsWith(":")) line = line.substring(0, line.length() - 1).trim();
+        if (line.isEmpty()) return null;
+
+        for (String[] names : HEADINGS.values()) {
+            for (String name : names) {
+                if (line.equals(name)) return line;
+            }
+        }
+        for (String name : OTHER_HEADINGS) {
+            if (line.equals(name)) return line;
+        }
+        return null;
+    }
+
+    private static Section sectionFor(String heading) {
+        for (Map.Entry<Section, String[]> entry : HEADINGS.entrySet()) {
+            for (String name : entry.getValue()) {
+                if (heading.equals(name)) return entry.getKey();
+            }
+        }
+        return null;
+    }
+}
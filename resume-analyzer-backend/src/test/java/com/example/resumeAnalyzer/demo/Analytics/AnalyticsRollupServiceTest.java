@@ -0,0 +1,76 @@
+package com.example.resumeAnalyzer.demo.Analytics;
+
+import com.example.resumeAnalyzer.demo.dto.AnalysisResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalyticsRollupServiceTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void snapshotRoundTrips() throws IOException {
+        AnalyticsRollupService rollups = service();
+        rollups.record("backend", analysis(80, List.of("Docker", "AWS")));
+        rollups.record("backend", analysis(60, List.of("Docker")));
+        rollups.snapshot();
+
+        AnalyticsRollupService restored = service();
+        assertEquals(List.of(Map.entry("Docker", 2L), Map.entry("AWS", 1L)), restored.topMissingSkills("backend", 10));
+        assertEquals(2L, restored.scoreSummary("backend").get("analyses"));
+    }
+
+    @Test
+    void truncatedSnapshotIsMovedAsideAndRollupsStartEmpty() throws IOException {
+        AnalyticsRollupService rollups = service();
+        rollups.record("backend", analysis(80, List.of("Docker")));
+        rollups.snapshot();
+        String json = Files.readString(snapshotFile());
+        Files.writeString(snapshotFile(), json.substring(0, json.length() / 2));
+
+        AnalyticsRollupService restored = service();
+        assertTrue(restored.families().isEmpty());
+        assertFalse(Files.exists(snapshotFile()));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertTrue(files.anyMatch(file -> file.getFileName().toString().startsWith("rollups.json.corrupt-")));
+        }
+    }
+
+    @Test
+    void snapshotWithMissingSectionsStartsEmpty() throws IOException {
+        Files.writeString(snapshotFile(), "{\"skillPrevalence\":{\"Java\":3}}");
+
+        AnalyticsRollupService restored = service();
+        assertTrue(restored.families().isEmpty());
+        assertTrue(restored.skillPrevalence(10).isEmpty());
+    }
+
+    private AnalyticsRollupService service() {
+        AnalyticsRollupService service = new AnalyticsRollupService(new ObjectMapper());
+        ReflectionTestUtils.setField(service, "snapshotPath", snapshotFile().toString());
+        service.restore();
+        return service;
+    }
+
+    private Path snapshotFile() {
+        return dir.resolve("rollups.json");
+    }
+
+    private static AnalysisResponseDto analysis(int score, List<String> missing) {
+        AnalysisResponseDto analysis = new AnalysisResponseDto();
+        analysis.score = score;
+        analysis.skillsMissing = missing;
+        return analysis;
+    }
+}
@@ -3,7 +3,11 @@ package com.example.resumeAnalyzer.demo;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"app.upload-dir=target/test/uploads",
+		"app.journal.dir=target/test/journal",
+		"app.analytics.snapshot-path=target/test/analytics/rollups.json"
+})
 class DemoApplicationTests {
 
 	@Test
@@ -0,0 +1,52 @@
+package com.example.resumeAnalyzer.demo.JobDescription;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobProfileServiceTest {
+
+    @Test
+    void registryKeepsOnlyTheNormalisedText() {
+        JobProfileService service = service(10_000);
+        JobProfile profile = service.register("  Senior   JAVA\n\nDeveloper, Docker  ");
+
+        assertEquals("senior java developer, docker", service.resolve(null, profile.jdId()));
+        assertEquals(profile, service.registeredProfile(profile.jdId()));
+    }
+
+    @Test
+    void registryIsBoundedByBytes() {
+        JobProfileService service = service(2_000);
+        service.register("java ".repeat(100));
+
+        ResponseStatusException full = assertThrows(ResponseStatusException.class,
+                () -> service.register("python ".repeat(200)));
+        assertEquals(HttpStatus.INSUFFICIENT_STORAGE, full.getStatusCode());
+        assertEquals(1, service.cacheStats().get("registered"));
+    }
+
+    @Test
+    void reregisteringAReformattedCopyIsFree() {
+        JobProfileService service = service(10_000);
+        JobProfile first = service.register("Java Spring Docker");
+        long bytes = (long) service.cacheStats().get("registeredBytes");
+
+        JobProfile again = service.register("java   spring\tdocker");
+        assertEquals(first.jdId(), again.jdId());
+        assertEquals(bytes, service.cacheStats().get("registeredBytes"));
+    }
+
+    private static JobProfileService service(long maxRegisteredBytes) {
+        JobProfileService service = new JobProfileService();
+        ReflectionTestUtils.setField(service, "maxEntries", 100);
+        ReflectionTestUtils.setField(service, "maxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(service, "maxRegistered", 100);
+        ReflectionTestUtils.setField(service, "maxRegisteredBytes", maxRegisteredBytes);
+        service.init();
+        return service;
+    }
+}
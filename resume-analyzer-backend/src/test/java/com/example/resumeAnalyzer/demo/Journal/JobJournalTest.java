@@ -0,0 +1,144 @@
+package com.example.resumeAnalyzer.demo.Journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobJournalTest {
+    private static final long NO_COMPACTION = Long.MAX_VALUE;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void incompleteJobsSurviveARestart() throws Exception {
+        JobJournal journal = open(NO_COMPACTION);
+        journal.accepted(entry(1)).join();
+        journal.accepted(entry(2)).join();
+        journal.accepted(entry(3)).join();
+        journal.completed(1).join();
+        journal.failed(3).join();
+        journal.close();
+
+        JobJournal reopened = open(NO_COMPACTION);
+        assertEquals(List.of(entry(2)), reopened.incompleteJobs());
+        assertEquals(3, reopened.maxJobId());
+        reopened.close();
+    }
+
+    @Test
+    void truncatedTrailingLineIsSkipped() throws Exception {
+        JobJournal journal = open(NO_COMPACTION);
+        journal.accepted(entry(1)).join();
+        journal.accepted(entry(2)).join();
+        journal.close();
+
+        // A crash mid-write leaves a partial record without its newline
+        Files.writeString(journalFile(), "A\t3\tL3Rt", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JobJournal reopened = open(NO_COMPACTION);
+        assertEquals(List.of(entry(1), entry(2)), reopened.incompleteJobs());
+        // The torn job's id is still never reused
+        assertEquals(3, reopened.maxJobId());
+        reopened.close();
+
+        // The rewrite on open dropped the torn line
+        assertFalse(Files.readString(journalFile()).contains("L3Rt"));
+    }
+
+    @Test
+    void compactionKeepsOnlyIncompleteJobs() throws Exception {
+        JobJournal journal = open(512);
+        for (long id = 1; id <= 50; id++) {
+            journal.accepted(entry(id)).join();
+            if (id != 7 && id != 42) journal.completed(id).join();
+        }
+        // One more batch so the writer sees the file over the limit and compacts after it
+        journal.completed(1).join();
+        journal.close();
+
+        assertTrue(Files.size(journalFile()) < 512 * 2, "journal was not compacted: " + Files.size(journalFile()));
+        JobJournal reopened = open(NO_COMPACTION);
+        assertEquals(List.of(entry(7), entry(42)), reopened.incompleteJobs());
+        reopened.close();
+    }
+
+    @Test
+    void concurrentAppendsAreAllDurable() throws Exception {
+        JobJournal journal = open(NO_COMPACTION);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            long jobId = id;
+            writes.add(CompletableFuture.supplyAsync(() -> journal.accepted(entry(jobId)), clients)
+                    .thenCompose(written -> written));
+        }
+        CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        clients.shutdown();
+        journal.close();
+
+        JobJournal reopened = open(NO_COMPACTION);
+        assertEquals(200, reopened.incompleteJobs().size());
+        // Group commit batches lines from many writers; none may be interleaved or lost
+        assertEquals(200, Files.readAllLines(journalFile()).size());
+        reopened.close();
+    }
+
+    @Test
+    void replayAttemptsAreCountedAcrossRestartsAndCompaction() throws Exception {
+        JobJournal journal = open(NO_COMPACTION);
+        journal.accepted(entry(1)).join();
+        journal.accepted(entry(2)).join();
+        journal.replayAttempt(1).join();
+        journal.close();
+
+        // Every open rewrites the file, so the count must survive compaction
+        JobJournal second = open(NO_COMPACTION);
+        assertEquals(1, second.replayAttempts(1));
+        second.replayAttempt(1).join();
+        second.close();
+
+        JobJournal third = open(NO_COMPACTION);
+        assertEquals(2, third.replayAttempts(1));
+        assertEquals(0, third.replayAttempts(2));
+        third.completed(1).join();
+        third.close();
+
+        JobJournal fourth = open(NO_COMPACTION);
+        assertEquals(List.of(entry(2)), fourth.incompleteJobs());
+        assertEquals(0, fourth.replayAttempts(1));
+        fourth.close();
+    }
+
+    private JobJournal open(long compactBytes) throws Exception {
+        JobJournal journal = new JobJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "journalDir", dir.toString());
+        ReflectionTestUtils.setField(journal, "maxBatch", 256);
+        ReflectionTestUtils.setField(journal, "compactBytes", compactBytes);
+        journal.open();
+        return journal;
+    }
+
+    private Path journalFile() {
+        return dir.resolve("jobs.log");
+    }
+
+    private static JournalEntry entry(long id) {
+        return new JournalEntry(id, "/uploads/" + id + "_resume.pdf", "resume.pdf",
+                id % 2 == 0 ? null : "Java developer\twith tabs\nand newlines", id % 3 == 0 ? "acme" : null);
+    }
+}
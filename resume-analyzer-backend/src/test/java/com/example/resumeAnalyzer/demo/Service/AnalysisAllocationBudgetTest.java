@@ -0,0 +1,141 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+import com.example.resumeAnalyzer.demo.Profiling.RequestProfile;
+import com.example.resumeAnalyzer.demo.Profiling.StageProfiler;
+import com.example.resumeAnalyzer.demo.dto.ParseResultDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the allocation footprint of the analysis path. Budgets are per stage, in bytes, for the
+ * reference resumes under src/test/resources/reference-resumes, with headroom over measured values.
+ * If a change legitimately needs more, raise the budget in the same commit and say why.
+ */
+@SpringBootTest(properties = {
+        "app.profiling.enabled=true",
+        // Keep state under target/, so no journal left by a local run is replayed here
+        "app.upload-dir=target/test/uploads",
+        "app.journal.dir=target/test/journal",
+        "app.analytics.snapshot-path=target/test/analytics/rollups.json"
+})
+class AnalysisAllocationBudgetTest {
+    private static final String JD = "Senior Java developer for a fast-paced startup. Spring Boot, Docker, "
+            + "Kubernetes, AWS, SQL, Git and Jenkins CI/CD experience required; React is a plus.";
+
+    private static final int WARMUP_RUNS = 300;
+    private static final int MEASURED_RUNS = 25;
+
+    // stage -> max bytes per request
+    private static final Map<String, Long> JD_BUDGETS = Map.of(
+            "skills", 64_000L,
+            "score", 96_000L,
+            "recommendations", 8_000L);
+    private static final Map<String, Long> RESUME_ONLY_BUDGETS = Map.of(
+            "score", 96_000L,
+            "recommendations", 18_000L);
+
+    @Autowired
+    private AnalysisService analysisService;
+
+    @Autowired
+    private StageProfiler profiler;
+
+    @Test
+    void backendResumeAgainstJobDescription() throws IOException {
+        assertWithinBudget(backendEngineer(), JD, JD_BUDGETS);
+    }
+
+    @Test
+    void backendResumeOnItsOwn() throws IOException {
+        assertWithinBudget(backendEngineer(), null, RESUME_ONLY_BUDGETS);
+    }
+
+    @Test
+    void juniorResumeAgainstJobDescription() throws IOException {
+        assertWithinBudget(frontendJunior(), JD, JD_BUDGETS);
+    }
+
+    @Test
+    void juniorResumeOnItsOwn() throws IOException {
+        assertWithinBudget(frontendJunior(), null, RESUME_ONLY_BUDGETS);
+    }
+
+    private void assertWithinBudget(ParseFixture fixture, String jd, Map<String, Long> budgets) throws IOException {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            profile(fixture, jd);
+        }
+
+        // Median over several runs so a stray TLAB refill or JIT event does not decide the outcome
+        long[][] samples = new long[budgets.size()][MEASURED_RUNS];
+        List<String> stages = List.copyOf(budgets.keySet());
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            RequestProfile profile = profile(fixture, jd);
+            for (int s = 0; s < stages.size(); s++) {
+                samples[s][run] = profile.allocatedBytes(stages.get(s));
+            }
+        }
+
+        for (int s = 0; s < stages.size(); s++) {
+            String stage = stages.get(s);
+            Arrays.sort(samples[s]);
+            long median = samples[s][MEASURED_RUNS / 2];
+            System.out.printf("[allocation] %s %s: %d bytes (budget %d)%n",
+                    fixture.name, stage, median, budgets.get(stage));
+            assertTrue(median > 0, stage + " stage was not profiled");
+            assertTrue(median <= budgets.get(stage), fixture.name + " " + stage + " allocated "
+                    + median + " bytes, budget is " + budgets.get(stage));
+        }
+    }
+
+    private RequestProfile profile(ParseFixture fixture, String jd) {
+        profiler.begin();
+        analysisService.analyze(fixture.toParseResult(), jd, 1L);
+        return profiler.finish();
+    }
+
+    private static ParseFixture backendEngineer() throws IOException {
+        return new ParseFixture("backend-engineer", read("backend-engineer.txt"),
+                List.of("Java", "Spring Boot", "Microservices", "REST APIs", "Docker", "Kubernetes", "AWS",
+                        "PostgreSQL", "MySQL", "Redis", "Jenkins", "Git", "Python"),
+                List.of("jane.doe@example.com"), List.of("+1 555 0100"),
+                List.of("B.Tech in Computer Science"),
+                List.of("Senior Software Engineer, Acme Corp", "Software Engineer, Globex"));
+    }
+
+    private static ParseFixture frontendJunior() throws IOException {
+        return new ParseFixture("frontend-junior", read("frontend-junior.txt"),
+                List.of("JavaScript", "React", "HTML", "CSS", "Git"),
+                List.of("john.smith@example.com"), List.of(),
+                List.of("B.Sc. in Information Technology"),
+                List.of("Frontend Intern, Startup Inc"));
+    }
+
+    private static String read(String name) throws IOException {
+        return new ClassPathResource("reference-resumes/" + name).getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    // A fresh ParseResultDto per run, so memoized fields do not hide the cost of computing them
+    private record ParseFixture(String name, String rawText, List<String> skills, List<String> emails,
+                                List<String> phones, List<String> education, List<String> experience) {
+        ParseResultDto toParseResult() {
+            ParseResultDto parse = new ParseResultDto();
+            parse.rawText = rawText;
+            parse.skills = skills;
+            parse.emails = emails;
+            parse.phones = phones;
+            parse.education = education;
+            parse.experience = experience;
+            return parse;
+        }
+    }
+}
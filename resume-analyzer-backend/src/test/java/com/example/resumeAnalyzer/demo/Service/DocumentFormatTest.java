@@ -0,0 +1,61 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DocumentFormatTest {
+
+    @Test
+    void pdf() throws IOException {
+        assertEquals(DocumentFormat.PDF, detect("%PDF-1.7 ...".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void docxNeedsTheMainDocumentPart() throws IOException {
+        assertEquals(DocumentFormat.DOCX, detect(zip("[Content_Types].xml", "word/document.xml")));
+        assertEquals(DocumentFormat.UNKNOWN, detect(zip("content.xml", "META-INF/manifest.xml")));
+    }
+
+    @Test
+    void truncatedZipIsUnknown() throws IOException {
+        byte[] zip = zip("word/document.xml");
+        byte[] truncated = new byte[10];
+        System.arraycopy(zip, 0, truncated, 0, truncated.length);
+        assertEquals(DocumentFormat.UNKNOWN, detect(truncated));
+    }
+
+    @Test
+    void textMustBeUtf8ThroughoutAndFreeOfNul() throws IOException {
+        assertEquals(DocumentFormat.TEXT, detect("Jane Doe — Java developer".getBytes(StandardCharsets.UTF_8)));
+
+        // Invalid UTF-8 past the sniffed prefix still disqualifies the file, as it does in the parser
+        byte[] latin1Tail = ("x".repeat(10_000) + "café").getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(DocumentFormat.UNKNOWN, detect(latin1Tail));
+        assertEquals(DocumentFormat.UNKNOWN, detect(new byte[]{'a', 0, 'b'}));
+        assertEquals(DocumentFormat.UNKNOWN, detect(new byte[0]));
+    }
+
+    private static DocumentFormat detect(byte[] content) throws IOException {
+        return DocumentFormat.detect(new ByteArrayInputStream(content));
+    }
+
+    private static byte[] zip(String... entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (String entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry));
+                zip.write("<xml/>".getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileStorageServiceTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void uploadsWithTheSameNameGetTheirOwnFiles() throws IOException {
+        FileStorageService storage = storage();
+        Path first = Path.of(storage.saveFile(upload("resume.pdf", "first"), 1));
+        Path second = Path.of(storage.saveFile(upload("resume.pdf", "second"), 2));
+
+        assertEquals(dir.resolve("1_resume.pdf"), first);
+        assertEquals("first", Files.readString(first));
+        assertEquals("second", Files.readString(second));
+    }
+
+    @Test
+    void neverOverwritesAStoredFile() throws IOException {
+        FileStorageService storage = storage();
+        storage.saveFile(upload("resume.pdf", "first"), 1);
+
+        assertThrows(FileAlreadyExistsException.class, () -> storage.saveFile(upload("resume.pdf", "other"), 1));
+        assertEquals("first", Files.readString(dir.resolve("1_resume.pdf")));
+    }
+
+    @Test
+    void pathComponentsAreStripped() throws IOException {
+        FileStorageService storage = storage();
+        Path stored = Path.of(storage.saveFile(upload("../../etc/passwd", "x"), 7));
+
+        assertEquals(dir.resolve("7_passwd"), stored);
+        assertEquals("cv_final_.pdf", FileStorageService.safeName("C:\\Users\\me\\cv final!.pdf"));
+        assertEquals("upload", FileStorageService.safeName(".."));
+        assertEquals("upload", FileStorageService.safeName(null));
+    }
+
+    private FileStorageService storage() {
+        FileStorageService storage = new FileStorageService();
+        ReflectionTestUtils.setField(storage, "uploadDir", dir.toString());
+        return storage;
+    }
+
+    private static MockMultipartFile upload(String name, String content) {
+        return new MockMultipartFile("file", name, "application/pdf", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
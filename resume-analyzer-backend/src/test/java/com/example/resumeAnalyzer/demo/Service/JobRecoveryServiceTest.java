@@ -0,0 +1,112 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+import com.example.resumeAnalyzer.demo.Journal.JobJournal;
+import com.example.resumeAnalyzer.demo.Journal.JournalEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobRecoveryServiceTest {
+    private static final int MAX_ATTEMPTS = 2;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysIncompleteJobs() throws Exception {
+        JournalEntry job = acceptedJob(1);
+        ResumeService resumeService = mock(ResumeService.class);
+
+        JobJournal journal = restart();
+        recovery(journal, resumeService).replayIncompleteJobs();
+        verify(resumeService, timeout(5000)).reprocess(job);
+        close(journal);
+    }
+
+    @Test
+    void jobThatKeepsFailingIsGivenUpAfterMaxAttempts() throws Exception {
+        JournalEntry job = acceptedJob(1);
+        ResumeService resumeService = mock(ResumeService.class);
+        doThrow(new IOException("parser down")).when(resumeService).reprocess(any());
+
+        for (int start = 1; start <= MAX_ATTEMPTS; start++) {
+            JobJournal journal = restart();
+            assertEquals(List.of(job), journal.incompleteJobs());
+            replay(recovery(journal, resumeService), job);
+            verify(resumeService, times(start)).reprocess(job);
+            close(journal);
+        }
+
+        // Limit reached: marked failed without another attempt, and gone after the next restart
+        JobJournal journal = restart();
+        replay(recovery(journal, resumeService), job);
+        close(journal);
+        verify(resumeService, times(MAX_ATTEMPTS)).reprocess(job);
+
+        JobJournal after = restart();
+        assertTrue(after.incompleteJobs().isEmpty());
+        close(after);
+    }
+
+    @Test
+    void jobWhoseFileIsGoneIsMarkedFailed() throws Exception {
+        JournalEntry job = acceptedJob(1);
+        Files.delete(Path.of(job.storedPath()));
+        ResumeService resumeService = mock(ResumeService.class);
+
+        JobJournal journal = restart();
+        replay(recovery(journal, resumeService), job);
+        close(journal);
+        verify(resumeService, never()).reprocess(any());
+
+        JobJournal after = restart();
+        assertTrue(after.incompleteJobs().isEmpty());
+        close(after);
+    }
+
+    private JournalEntry acceptedJob(long id) throws Exception {
+        Path stored = Files.writeString(dir.resolve(id + "_resume.txt"), "Java developer");
+        JournalEntry job = new JournalEntry(id, stored.toString(), "resume.txt", null, null);
+        JobJournal journal = restart();
+        journal.accepted(job).join();
+        close(journal);
+        return job;
+    }
+
+    // Replays one job on the calling thread, so the journal can be closed right after
+    private static void replay(JobRecoveryService recovery, JournalEntry job) {
+        ReflectionTestUtils.invokeMethod(recovery, "replay", job);
+    }
+
+    private JobRecoveryService recovery(JobJournal journal, ResumeService resumeService) {
+        JobRecoveryService recovery = new JobRecoveryService(journal, resumeService);
+        ReflectionTestUtils.setField(recovery, "recoveryWorkers", 1);
+        ReflectionTestUtils.setField(recovery, "maxReplayAttempts", MAX_ATTEMPTS);
+        return recovery;
+    }
+
+    // Opens the journal as a fresh start would
+    private JobJournal restart() {
+        JobJournal journal = new JobJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "journalDir", dir.resolve("journal").toString());
+        ReflectionTestUtils.setField(journal, "maxBatch", 256);
+        ReflectionTestUtils.setField(journal, "compactBytes", Long.MAX_VALUE);
+        ReflectionTestUtils.invokeMethod(journal, "open");
+        return journal;
+    }
+
+    private static void close(JobJournal journal) {
+        ReflectionTestUtils.invokeMethod(journal, "close");
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.resumeAnalyzer.demo.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillSimilarityServiceTest {
+    private SkillSimilarityService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = newService(true, 1024);
+    }
+
+    @Test
+    void aliasOfTheSameSkillIsAnExactMatch() {
+        assertEquals(Set.of("Kubernetes"), service.aliasMatches(Set.of("k8s", "java"), Set.of("Kubernetes", "AWS")));
+    }
+
+    @Test
+    void sameSkillIsNotCountedAsPartialCredit() {
+        assertTrue(service.partialMatches(Set.of("k8s"), Set.of("Kubernetes")).isEmpty());
+    }
+
+    @Test
+    void closeSkillEarnsPartialCredit() {
+        Map<String, Double> credits = service.partialMatches(Set.of("mysql"), Set.of("PostgreSQL"));
+        assertTrue(credits.get("PostgreSQL") >= 0.8, "PostgreSQL credit was " + credits.get("PostgreSQL"));
+    }
+
+    @Test
+    void unrelatedSkillEarnsNothing() {
+        assertTrue(service.partialMatches(Set.of("react"), Set.of("PostgreSQL")).isEmpty());
+    }
+
+    @Test
+    void unknownSkillsAreIgnored() {
+        assertTrue(service.partialMatches(Set.of("cobol"), Set.of("PostgreSQL")).isEmpty());
+        assertTrue(service.aliasMatches(Set.of("mysql"), Set.of("Underwater Basket Weaving")).isEmpty());
+    }
+
+    @Test
+    void pairBudgetStopsTheSearch() throws IOException {
+        SkillSimilarityService capped = newService(true, 0);
+        assertTrue(capped.partialMatches(Set.of("mysql"), Set.of("PostgreSQL")).isEmpty());
+    }
+
+    @Test
+    void disabledServiceMatchesNothing() throws IOException {
+        SkillSimilarityService disabled = newService(false, 1024);
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.aliasMatches(Set.of("k8s"), Set.of("Kubernetes")).isEmpty());
+        assertTrue(disabled.partialMatches(Set.of("mysql"), Set.of("PostgreSQL")).isEmpty());
+    }
+
+    private static SkillSimilarityService newService(boolean enabled, int maxPairs) throws IOException {
+        SkillSimilarityService service = new SkillSimilarityService();
+        ReflectionTestUtils.setField(service, "enabled", enabled);
+        ReflectionTestUtils.setField(service, "vectorsFile", new ClassPathResource("skill-vectors.tsv"));
+        ReflectionTestUtils.setField(service, "minSimilarity", 0.8);
+        ReflectionTestUtils.setField(service, "maxPairs", maxPairs);
+        service.load();
+        return service;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.resumeAnalyzer.demo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Open-model request generation shared by the load tests: requests arrive at Poisson-distributed
+ * times at a fixed rate, independent of response times, and each is handed its intended send time
+ * so latency includes any time the server kept it waiting.
+ */
+final class LoadDriver {
+    private static final String BOUNDARY = "loadtest-boundary";
+
+    private LoadDriver() {
+    }
+
+    /**
+     * Starts a request at each arrival for the given duration, then waits for stragglers.
+     * The function receives the intended send time in System.nanoTime() units.
+     */
+    static void drive(double rate, int seconds, LongFunction<CompletableFuture<?>> send) {
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long nextArrival = System.nanoTime();
+
+        while (nextArrival < end) {
+            long wait = nextArrival - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            inFlight.add(send.apply(nextArrival));
+
+            double interArrivalSeconds = -Math.log(1 - ThreadLocalRandom.current().nextDouble()) / rate;
+            nextArrival += (long) (interArrivalSeconds * 1e9);
+        }
+
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).orTimeout(60, TimeUnit.SECONDS).join();
+    }
+
+    /** Multipart upload of a placeholder PDF with a backend JD; tenant may be null. */
+    static HttpRequest uploadRequest(String url, String tenant) {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"resume.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n"
+                + "%PDF-1.4 load test placeholder\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"jobDescription\"\r\n\r\n"
+                + "Senior Java developer with Spring Boot, Docker, Kubernetes, AWS and SQL experience\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        if (tenant != null) request.header("X-Tenant-Id", tenant);
+        return request.build();
+    }
+
+    static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
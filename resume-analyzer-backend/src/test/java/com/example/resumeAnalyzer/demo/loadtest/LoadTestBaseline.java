@@ -0,0 +1,74 @@
+package com.example.resumeAnalyzer.demo.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Stored reference numbers for the load test. Latencies are in microseconds, throughput in
+ * requests per second, error rates a fraction of requests. Latency and throughput regress if they are
+ * worse than the baseline by more than their threshold; any rise in error rate is a regression.
+ */
+class LoadTestBaseline {
+    static final Path LOCATION = Path.of("src/test/resources/loadtest/baseline.properties");
+
+    private final Properties values = new Properties();
+
+    static LoadTestBaseline load() throws IOException {
+        LoadTestBaseline baseline = new LoadTestBaseline();
+        if (Files.exists(LOCATION)) {
+            try (InputStream in = Files.newInputStream(LOCATION)) {
+                baseline.values.load(in);
+            }
+        }
+        return baseline;
+    }
+
+    void put(String key, double value) {
+        values.setProperty(key, key.endsWith(".error-rate") ? String.format("%.4f", value) : String.format("%.1f", value));
+    }
+
+    void store() throws IOException {
+        try (OutputStream out = Files.newOutputStream(LOCATION)) {
+            values.store(out, "Load test baseline, regenerate with -Dloadtest.update-baseline=true");
+        }
+    }
+
+    /**
+     * Returns a description of every metric that regressed. The throughput threshold must be below 1,
+     * otherwise no drop in throughput could ever count as a regression.
+     */
+    List<String> regressions(LoadTestBaseline actual, double latencyThreshold, double throughputThreshold) {
+        if (throughputThreshold <= 0 || throughputThreshold >= 1) {
+            throw new IllegalArgumentException("Throughput threshold must be between 0 and 1, was " + throughputThreshold);
+        }
+        List<String> regressions = new ArrayList<>();
+        for (String key : values.stringPropertyNames()) {
+            String actualValue = actual.values.getProperty(key);
+            if (actualValue == null) {
+                regressions.add(key + ": not measured");
+                continue;
+            }
+
+            double expected = Double.parseDouble(values.getProperty(key));
+            double measured = Double.parseDouble(actualValue);
+            boolean regressed;
+            if (key.endsWith(".throughput")) {
+                regressed = measured < expected * (1 - throughputThreshold);
+            } else if (key.endsWith(".error-rate")) {
+                regressed = measured > expected;
+            } else {
+                regressed = measured > expected * (1 + latencyThreshold);
+            }
+            if (regressed) {
+                regressions.add(key + ": baseline " + expected + ", measured " + measured);
+            }
+        }
+        return regressions;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.resumeAnalyzer.demo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.example.resumeAnalyzer.demo.loadtest.LoadDriver.doubleProperty;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test: the real application against an in-process stub parser.
+ * Requests arrive on an open model (Poisson arrivals at a fixed rate, independent of response
+ * times) and latency is measured from the intended send time, so a stalled server shows up in the tail.
+ *
+ * Run with: mvn -Ploadtest test [-Dloadtest.rate=50 -Dloadtest.duration-seconds=30 ...]
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResumeLoadTest {
+    private static final double RATE = doubleProperty("loadtest.rate", 50);
+    private static final int WARMUP_SECONDS = (int) doubleProperty("loadtest.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = (int) doubleProperty("loadtest.duration-seconds", 20);
+    private static final double ANALYSIS_SHARE = doubleProperty("loadtest.analysis-share", 0.5);
+    // Allowed rise in latency, and allowed drop in throughput, as a fraction of the baseline
+    private static final double LATENCY_THRESHOLD = doubleProperty("loadtest.latency-threshold", 1.0);
+    private static final double THROUGHPUT_THRESHOLD = doubleProperty("loadtest.throughput-threshold", 0.5);
+
+    private static final Pattern RESUME_ID = Pattern.compile("\"resumeId\"\\s*:\\s*(\\d+)");
+
+    private static StubParserServer stubParser;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<Long> resumeIds = new CopyOnWriteArrayList<>();
+    private final Endpoint upload = new Endpoint("upload");
+    private final Endpoint analysis = new Endpoint("analysis");
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubParser(DynamicPropertyRegistry registry) throws IOException {
+        stubParser = new StubParserServer(
+                (long) doubleProperty("loadtest.stub.latency-ms", 20),
+                doubleProperty("loadtest.stub.error-rate", 0.0),
+                (int) doubleProperty("loadtest.stub.payload-kb", 4));
+        registry.add("app.parser-url", stubParser::parseUrl);
+        registry.add("app.upload-dir", () -> "target/loadtest/uploads");
+        registry.add("app.journal.dir", () -> "target/loadtest/journal");
+        registry.add("app.analytics.snapshot-path", () -> "target/loadtest/analytics/rollups.json");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stubParser != null) stubParser.close();
+    }
+
+    @Test
+    void throughputAndTailLatencyStayWithinBaseline() throws Exception {
+        drive(WARMUP_SECONDS);
+        upload.reset();
+        analysis.reset();
+
+        long start = System.nanoTime();
+        drive(DURATION_SECONDS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        LoadTestBaseline measured = new LoadTestBaseline();
+        Path reportDir = Files.createDirectories(Path.of("target/loadtest"));
+        for (Endpoint endpoint : List.of(upload, analysis)) {
+            long succeeded = endpoint.report(measured, elapsedSeconds, reportDir);
+            // With no successful request every percentile reads 0, which would pass as fast
+            assertTrue(succeeded > 0, endpoint.name + ": no request succeeded");
+        }
+
+        if (Boolean.getBoolean("loadtest.update-baseline")) {
+            measured.store();
+            return;
+        }
+
+        List<String> regressions = LoadTestBaseline.load().regressions(measured, LATENCY_THRESHOLD, THROUGHPUT_THRESHOLD);
+        assertTrue(regressions.isEmpty(), "Load test regressed against baseline: " + regressions);
+    }
+
+    // Mixes uploads with reads of earlier results, in ANALYSIS_SHARE proportion
+    private void drive(int seconds) {
+        LoadDriver.drive(RATE, seconds, intendedStart -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (!resumeIds.isEmpty() && random.nextDouble() < ANALYSIS_SHARE) {
+                return send(analysis, analysisRequest(resumeIds.get(random.nextInt(resumeIds.size()))), intendedStart);
+            }
+            return send(upload, LoadDriver.uploadRequest(baseUrl() + "/upload", null), intendedStart);
+        });
+    }
+
+    private CompletableFuture<?> send(Endpoint endpoint, HttpRequest request, long intendedStart) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    long latencyMicros = (System.nanoTime() - intendedStart) / 1000;
+                    if (error != null || response.statusCode() != 200) {
+                        endpoint.errors.increment();
+                        return null;
+                    }
+                    endpoint.latency.recordValue(latencyMicros);
+                    if (endpoint == upload) {
+                        Matcher matcher = RESUME_ID.matcher(response.body());
+                        if (matcher.find()) resumeIds.add(Long.parseLong(matcher.group(1)));
+                    }
+                    return null;
+                });
+    }
+
+    private HttpRequest analysisRequest(long resumeId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl() + "/" + resumeId + "/analysis")).GET().build();
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + port + "/api/resumes";
+    }
+
+    private static class Endpoint {
+        final String name;
+        final Recorder latency = new Recorder(TimeUnit.MINUTES.toMicros(1), 3);
+        final LongAdder errors = new LongAdder();
+
+        Endpoint(String name) {
+            this.name = name;
+        }
+
+        void reset() {
+            latency.reset();
+            errors.reset();
+        }
+
+        // Returns the number of successful requests
+        long report(LoadTestBaseline measured, double elapsedSeconds, Path reportDir) throws IOException {
+            Histogram histogram = latency.getIntervalHistogram();
+            double throughput = histogram.getTotalCount() / elapsedSeconds;
+            long failed = errors.sum();
+            long total = histogram.getTotalCount() + failed;
+
+            // Percentile distribution in the standard .hgrm text format, values in milliseconds
+            try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(name + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+            System.out.printf("[loadtest] %-8s ok=%d errors=%d throughput=%.1f/s p50=%.2fms p99=%.2fms p999=%.2fms%n",
+                    name, histogram.getTotalCount(), failed, throughput,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0);
+
+            measured.put(name + ".throughput", throughput);
+            measured.put(name + ".p50", histogram.getValueAtPercentile(50));
+            measured.put(name + ".p99", histogram.getValueAtPercentile(99));
+            measured.put(name + ".p999", histogram.getValueAtPercentile(99.9));
+            measured.put(name + ".error-rate", total == 0 ? 1.0 : (double) failed / total);
+            return histogram.getTotalCount();
+        }
+    }
+}
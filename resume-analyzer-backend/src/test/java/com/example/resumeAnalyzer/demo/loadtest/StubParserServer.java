@@ -0,0 +1,93 @@
+package com.example.resumeAnalyzer.demo.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process stand-in for the FastAPI resume-parser. Answers POST /parse with the same JSON
+ * shape as resume-parser/main.py after a configurable delay, failing a configurable share of calls.
+ */
+class StubParserServer implements AutoCloseable {
+    private static final String RESUME_TEXT = """
+            Summary
+            Backend engineer with 6 years of experience building Java and Spring Boot microservices.
+            Experience
+            Senior Software Engineer, Acme Corp. Led a team of 5 and improved API latency by 40%.
+            Developed REST APIs with Spring Boot, Docker and Kubernetes on AWS. Managed PostgreSQL databases.
+            Education
+            B.Tech in Computer Science
+            Skills
+            Java, Spring Boot, Docker, Kubernetes, AWS, PostgreSQL, Git, React
+            """;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final long latencyMillis;
+    private final double errorRate;
+    private final byte[] responseBody;
+
+    StubParserServer(long latencyMillis, double errorRate, int payloadKb) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.responseBody = buildResponse(payloadKb);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/parse", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String parseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/parse";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+            if (latencyMillis > 0) Thread.sleep(latencyMillis);
+
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, responseBody.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(responseBody);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Repeats the sample resume until rawText reaches roughly payloadKb kilobytes
+    private static byte[] buildResponse(int payloadKb) {
+        int targetChars = Math.max(RESUME_TEXT.length(), payloadKb * 1024);
+        StringBuilder raw = new StringBuilder(targetChars + RESUME_TEXT.length());
+        while (raw.length() < targetChars) raw.append(RESUME_TEXT);
+
+        String escaped = raw.toString().replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        String json = "{\"rawText\":\"" + escaped + "\","
+                + "\"skills\":[\"Java\",\"Spring Boot\",\"Docker\",\"Kubernetes\",\"AWS\",\"PostgreSQL\",\"Git\",\"React\"],"
+                + "\"emails\":[\"jane.doe@example.com\"],"
+                + "\"phones\":[\"+1 555 0100\"],"
+                + "\"education\":[\"B.Tech in Computer Science\"],"
+                + "\"experience\":[\"Senior Software Engineer, Acme Corp\"]}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.resumeAnalyzer.demo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.resumeAnalyzer.demo.loadtest.LoadDriver.doubleProperty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Noisy-neighbour test for tenant isolation: a quiet tenant's upload latency is measured alone,
+ * then again while one or two other tenants flood uploads far beyond their share. With isolation
+ * holding, the quiet tenant sees no errors and its p99 stays within the allowed factor of the solo
+ * run; the noisy tenants absorb the overload as 429s from their own full queues.
+ *
+ * Runs with the shipped tenancy limits, so it checks the defaults operators actually get. Tomcat
+ * gets fewer request threads than the noisy tenants' queues hold between them, so a queued upload
+ * that kept its request thread would starve the quiet tenant before it reached its own queue.
+ *
+ * Run with: mvn -Ploadtest test -Dtest=TenantIsolationLoadTest
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.tenancy.enabled=true",
+        "server.tomcat.threads.max=50"
+})
+class TenantIsolationLoadTest {
+    private static final double QUIET_RATE = doubleProperty("loadtest.quiet-rate", 10);
+    // Total flood rate, split between the noisy tenants. Several times what their shares can
+    // complete, but below what multipart parsing on the shared front door can absorb on a small box
+    private static final double NOISY_RATE = doubleProperty("loadtest.noisy-rate", 80);
+    private static final int DURATION_SECONDS = (int) doubleProperty("loadtest.duration-seconds", 15);
+    private static final double ISOLATION_FACTOR = doubleProperty("loadtest.isolation-factor", 2.0);
+    private static final long ISOLATION_SLACK_MICROS = (long) doubleProperty("loadtest.isolation-slack-ms", 100) * 1000;
+
+    private static StubParserServer stubParser;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubParser(DynamicPropertyRegistry registry) throws IOException {
+        stubParser = new StubParserServer((long) doubleProperty("loadtest.stub.latency-ms", 20), 0.0, 4);
+        registry.add("app.parser-url", stubParser::parseUrl);
+        registry.add("app.upload-dir", () -> "target/loadtest/uploads");
+        registry.add("app.journal.dir", () -> "target/loadtest/journal");
+        registry.add("app.analytics.snapshot-path", () -> "target/loadtest/analytics/rollups.json");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stubParser != null) stubParser.close();
+    }
+
+    @Test
+    void quietTenantIsUnaffectedByNoisyNeighbour() throws Exception {
+        assertIsolatedFrom(new Tenant("noisy", NOISY_RATE));
+    }
+
+    @Test
+    void quietTenantIsUnaffectedByTwoNoisyNeighbours() throws Exception {
+        assertIsolatedFrom(new Tenant("noisy-a", NOISY_RATE / 2), new Tenant("noisy-b", NOISY_RATE / 2));
+    }
+
+    private void assertIsolatedFrom(Tenant... noisy) throws Exception {
+        // Warm up, then measure the quiet tenant on its own
+        drive(new Tenant("quiet", QUIET_RATE), 3);
+        Tenant solo = new Tenant("quiet", QUIET_RATE);
+        drive(solo, DURATION_SECONDS);
+
+        Tenant quiet = new Tenant("quiet", QUIET_RATE);
+        CompletableFuture<?>[] floods = new CompletableFuture<?>[noisy.length];
+        for (int i = 0; i < noisy.length; i++) {
+            Tenant tenant = noisy[i];
+            floods[i] = CompletableFuture.runAsync(() -> drive(tenant, DURATION_SECONDS));
+        }
+        drive(quiet, DURATION_SECONDS);
+        CompletableFuture.allOf(floods).get(120, TimeUnit.SECONDS);
+
+        Histogram soloLatency = solo.report("quiet (solo)");
+        Histogram quietLatency = quiet.report("quiet (with noisy neighbours)");
+        for (Tenant tenant : noisy) tenant.report(tenant.id);
+        System.out.println("[loadtest] tenant metrics: " + client.send(
+                HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/admin/tenants")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body());
+
+        assertEquals(0, quiet.errors.sum() + quiet.rejected.sum(), "quiet tenant saw failed or rejected uploads");
+        long allowed = Math.max((long) (soloLatency.getValueAtPercentile(99) * ISOLATION_FACTOR),
+                soloLatency.getValueAtPercentile(99) + ISOLATION_SLACK_MICROS);
+        assertTrue(quietLatency.getValueAtPercentile(99) <= allowed, "quiet tenant p99 "
+                + quietLatency.getValueAtPercentile(99) + "us exceeds " + allowed + "us under noisy neighbours");
+    }
+
+    private void drive(Tenant tenant, int seconds) {
+        String url = "http://127.0.0.1:" + port + "/api/resumes/upload";
+        LoadDriver.drive(tenant.rate, seconds, intendedStart -> client
+                .sendAsync(LoadDriver.uploadRequest(url, tenant.id), HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null) tenant.errors.increment();
+                    else if (response.statusCode() == 429) tenant.rejected.increment();
+                    else if (response.statusCode() != 200) tenant.errors.increment();
+                    else tenant.latency.recordValue((System.nanoTime() - intendedStart) / 1000);
+                    return null;
+                }));
+    }
+
+    private static class Tenant {
+        final String id;
+        final double rate;
+        final Recorder latency = new Recorder(TimeUnit.MINUTES.toMicros(1), 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+
+        Tenant(String id, double rate) {
+            this.id = id;
+            this.rate = rate;
+        }
+
+        Histogram report(String label) {
+            Histogram histogram = latency.getIntervalHistogram();
+            System.out.printf("[loadtest] %-30s ok=%d rejected=%d errors=%d p50=%.2fms p99=%.2fms%n",
+                    label, histogram.getTotalCount(), rejected.sum(), errors.sum(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0);
+            return histogram;
+        }
+    }
+}
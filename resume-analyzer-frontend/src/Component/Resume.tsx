@@ -10,11 +10,12 @@ const ResumeUpload = () => {
 
     const handleFileChange = (e) => {
         const selectedFile = e.target.files[0];
-        if (selectedFile && selectedFile.type === 'application/pdf') {
+        const supported = /\.(pdf|docx|txt)$/i;
+        if (selectedFile && supported.test(selectedFile.name)) {
             setFile(selectedFile);
             setError('');
         } else {
-            setError('Please select a PDF file');
+            setError('Please select a PDF, DOCX or TXT file');
             setFile(null);
         }
     };
@@ -71,11 +72,11 @@ const ResumeUpload = () => {
                     {/* File Upload */}
                     <div>
                         <label className="block text-sm font-medium text-gray-700 mb-2">
-                            📄 Upload Resume (PDF only)
+                            📄 Upload Resume (PDF, DOCX or TXT)
                         </label>
                         <input
                             type="file"
-                            accept=".pdf"
+                            accept=".pdf,.docx,.txt"
                             onChange={handleFileChange}
                             className="block w-full text-sm text-gray-500 file:mr-4 file:py-2 file:px-4 file:rounded-md file:border-0 file:text-sm file:font-semibold file:bg-blue-50 file:text-blue-700 hover:file:bg-blue-100"
                             required
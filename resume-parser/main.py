@@ -1,17 +1,152 @@
-from fastapi import FastAPI, UploadFile, File
+from fastapi import FastAPI, UploadFile, File, HTTPException
+from concurrent.futures import ProcessPoolExecutor
+from concurrent.futures.process import BrokenProcessPool
+import io
+import os
+import threading
+import zipfile
+import xml.etree.ElementTree as ET
 import PyPDF2
 import re
-from typing import List
+from typing import List, Tuple
 
 app = FastAPI()
 
-# Extract text from PDF
-def extract_text_from_pdf(file) -> str:
-    pdf_reader = PyPDF2.PdfReader(file)
-    text = ""
-    for page in pdf_reader.pages:
-        text += page.extract_text() or ""
-    return text
+# Ingestion limits, so a pathological upload cannot monopolise the parser
+MAX_UPLOAD_BYTES = int(os.getenv("PARSER_MAX_UPLOAD_BYTES", str(10 * 1024 * 1024)))
+MAX_PAGES = int(os.getenv("PARSER_MAX_PAGES", "20"))
+MAX_TEXT_CHARS = int(os.getenv("PARSER_MAX_TEXT_CHARS", "200000"))
+
+# Page extraction runs in worker processes: PyPDF2 is pure Python, so threads would only
+# contend for the GIL. Each worker re-parses the document, so only long PDFs are split
+PAGE_WORKERS = int(os.getenv("PARSER_PAGE_WORKERS", str(min(4, os.cpu_count() or 1))))
+PARALLEL_MIN_PAGES = int(os.getenv("PARSER_PARALLEL_MIN_PAGES", "8"))
+
+WORD_NS = "{http://schemas.openxmlformats.org/wordprocessingml/2006/main}"
+
+
+# Detect the document format from its leading bytes rather than the filename
+def detect_format(data: bytes) -> str:
+    if data.startswith(b"%PDF"):
+        return "pdf"
+    if data.startswith(b"PK\x03\x04"):
+        try:
+            with zipfile.ZipFile(io.BytesIO(data)) as archive:
+                if "word/document.xml" in archive.namelist():
+                    return "docx"
+        except zipfile.BadZipFile:
+            pass
+        return "unknown"
+    if b"\x00" not in data[:4096]:
+        try:
+            data.decode("utf-8")
+            return "text"
+        except UnicodeDecodeError:
+            pass
+    return "unknown"
+
+
+# Shared, bounded process pool for page extraction across all requests, created on first use
+_page_pool = None
+_page_pool_lock = threading.Lock()
+
+
+def page_pool() -> ProcessPoolExecutor:
+    global _page_pool
+    with _page_pool_lock:
+        if _page_pool is None:
+            _page_pool = ProcessPoolExecutor(max_workers=PAGE_WORKERS)
+        return _page_pool
+
+
+def discard_page_pool(broken: ProcessPoolExecutor) -> None:
+    global _page_pool
+    with _page_pool_lock:
+        if _page_pool is broken:
+            _page_pool = None
+    broken.shutdown(wait=False, cancel_futures=True)
+
+
+@app.on_event("shutdown")
+def shutdown_page_pool() -> None:
+    if _page_pool is not None:
+        _page_pool.shutdown(cancel_futures=True)
+
+
+# Runs in a worker process: extract a contiguous range of pages with its own reader
+def extract_pdf_range(data: bytes, start: int, end: int) -> List[str]:
+    reader = PyPDF2.PdfReader(io.BytesIO(data))
+    return [reader.pages[i].extract_text() or "" for i in range(start, end)]
+
+
+# Extract text from PDF page by page, up to MAX_PAGES. Short documents are read serially from
+# the one parse; longer ones are split into contiguous page ranges across the process pool
+def extract_pages_from_pdf(data: bytes) -> Tuple[List[str], int]:
+    reader = PyPDF2.PdfReader(io.BytesIO(data))
+    total_pages = len(reader.pages)
+    page_count = min(total_pages, MAX_PAGES)
+    if PAGE_WORKERS < 2 or page_count < PARALLEL_MIN_PAGES:
+        return [reader.pages[i].extract_text() or "" for i in range(page_count)], total_pages
+
+    chunk = -(-page_count // PAGE_WORKERS)
+    pool = page_pool()
+    try:
+        futures = [pool.submit(extract_pdf_range, data, start, min(start + chunk, page_count))
+                   for start in range(0, page_count, chunk)]
+        pages: List[str] = []
+        for future in futures:
+            pages.extend(future.result())
+        return pages, total_pages
+    except BrokenProcessPool:
+        # A worker died (e.g. killed for memory); replace the pool and serve this one serially
+        discard_page_pool(pool)
+        return [reader.pages[i].extract_text() or "" for i in range(page_count)], total_pages
+
+
+# DOCX has no fixed pages; split on explicit page breaks
+def extract_pages_from_docx(data: bytes) -> Tuple[List[str], int]:
+    with zipfile.ZipFile(io.BytesIO(data)) as archive:
+        root = ET.fromstring(archive.read("word/document.xml"))
+
+    pages: List[List[str]] = [[]]
+    for paragraph in root.iter(WORD_NS + "p"):
+        line = []
+        for node in paragraph.iter():
+            if node.tag == WORD_NS + "t" and node.text:
+                line.append(node.text)
+            elif node.tag == WORD_NS + "br" and node.get(WORD_NS + "type") == "page":
+                pages[-1].append("".join(line))
+                line = []
+                pages.append([])
+        pages[-1].append("".join(line))
+
+    total_pages = len(pages)
+    return ["\n".join(lines) + "\n" for lines in pages[:MAX_PAGES]], total_pages
+
+
+def extract_pages_from_text(data: bytes) -> Tuple[List[str], int]:
+    return [data.decode("utf-8")], 1
+
+
+EXTRACTORS = {
+    "pdf": extract_pages_from_pdf,
+    "docx": extract_pages_from_docx,
+    "text": extract_pages_from_text,
+}
+
+
+# Assemble pages with a single join (one allocation sized to the total) and
+# apply the text cutoff
+def assemble_text(pages: List[str]) -> Tuple[str, bool]:
+    kept: List[str] = []
+    remaining = MAX_TEXT_CHARS
+    for page in pages:
+        if len(page) >= remaining:
+            kept.append(page[:remaining])
+            return "".join(kept), True
+        kept.append(page)
+        remaining -= len(page)
+    return "".join(kept), False
 
 # Extract emails with regex
 def extract_emails(text: str) -> List[str]:
@@ -26,14 +161,27 @@ KNOWN_SKILLS = ["Java", "Spring Boot", "Python", "SQL", "React", "Docker"]
 
 def extract_skills(text: str) -> List[str]:
     found = []
+    lower_text = text.lower()
     for skill in KNOWN_SKILLS:
-        if skill.lower() in text.lower():
+        if skill.lower() in lower_text:
             found.append(skill)
     return found
 
+# A plain def: FastAPI runs it on its worker threadpool, so blocking extraction
+# does not stall the event loop
 @app.post("/parse")
-async def parse_resume(file: UploadFile = File(...)):
-    text = extract_text_from_pdf(file.file)
+def parse_resume(file: UploadFile = File(...)):
+    data = file.file.read(MAX_UPLOAD_BYTES + 1)
+    if len(data) > MAX_UPLOAD_BYTES:
+        raise HTTPException(status_code=413, detail="File exceeds %d bytes" % MAX_UPLOAD_BYTES)
+
+    doc_format = detect_format(data)
+    if doc_format not in EXTRACTORS:
+        raise HTTPException(status_code=415, detail="Unsupported document format")
+
+    pages, total_pages = EXTRACTORS[doc_format](data)
+    text, text_truncated = assemble_text(pages)
+
     skills = extract_skills(text)
     emails = extract_emails(text)
     phones = extract_phones(text)
@@ -42,5 +190,8 @@ async def parse_resume(file: UploadFile = File(...)):
         "rawText": text,
         "skills": skills,
         "emails": emails,
-        "phones": phones
+        "phones": phones,
+        "format": doc_format,
+        "pages": total_pages,
+        "truncated": text_truncated or total_pages > len(pages)
     }